@@ -17,9 +17,9 @@ dependencies {
   implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
   implementation("org.flywaydb:flyway-core")
   implementation("redis.clients:jedis:5.1.2")
+  implementation("org.postgresql:postgresql") // CopyManager for bulk import
 
   runtimeOnly("com.h2database:h2")
-  runtimeOnly("org.postgresql:postgresql")
 
   testImplementation("org.springframework.boot:spring-boot-starter-test")
   testImplementation("org.mockito:mockito-core")
@@ -2,10 +2,13 @@ package uk.gov.hmcts.tasks.api;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
+import uk.gov.hmcts.tasks.application.errors.UnprocessableEntityException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
@@ -57,6 +60,15 @@ public class ApiErrorHandler {
     return respond(pd);
   }
 
+  /* 422 – understood but not acceptable (e.g. Idempotency-Key reused for another payload) */
+  @ExceptionHandler(UnprocessableEntityException.class)
+  ResponseEntity<ProblemDetail> onUnprocessable(UnprocessableEntityException ex,
+      HttpServletRequest req) {
+    ProblemDetail pd = base(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity",
+        ex.getMessage(), req.getRequestURI());
+    return respond(pd);
+  }
+
   @ExceptionHandler(IllegalStateException.class)
   ResponseEntity<ProblemDetail> onConflict(IllegalStateException ex, HttpServletRequest req) {
     ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.CONFLICT);
@@ -68,7 +80,7 @@ public class ApiErrorHandler {
   }
 
   /* 400 – query/path errors, malformed JSON, missing params, type mismatches */
-  @ExceptionHandler({ConstraintViolationException.class,
+  @ExceptionHandler({BadRequestException.class, ConstraintViolationException.class,
       MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class,
       HttpMessageNotReadableException.class})
   ResponseEntity<ProblemDetail> onBadRequest(Exception ex, HttpServletRequest req) {
@@ -78,6 +90,15 @@ public class ApiErrorHandler {
     return respond(pd);
   }
 
+  /* 415 – body sent in a format the endpoint does not read (e.g. /tasks/import) */
+  @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+  ResponseEntity<ProblemDetail> onUnsupportedMediaType(HttpMediaTypeNotSupportedException ex,
+      HttpServletRequest req) {
+    ProblemDetail pd = base(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported Media Type",
+        ex.getMessage(), req.getRequestURI());
+    return respond(pd);
+  }
+
   /* 409 – uniqueness/conflict problems */
   @ExceptionHandler(DataIntegrityViolationException.class)
   ResponseEntity<ProblemDetail> onConflict(DataIntegrityViolationException ex,
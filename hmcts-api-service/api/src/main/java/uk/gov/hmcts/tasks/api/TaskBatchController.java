@@ -0,0 +1,118 @@
+package uk.gov.hmcts.tasks.api;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.validation.annotation.Validated;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Item;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Result;
+import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusBatchUseCase;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+// Own controller because "/tasks:batch" etc. are single path segments, not children of "/tasks"
+@RestController
+@Validated
+public class TaskBatchController {
+  private final CreateTasksBatchUseCase batch;
+  private final UpdateTaskStatusBatchUseCase statusBatch;
+
+  public TaskBatchController(CreateTasksBatchUseCase batch,
+      UpdateTaskStatusBatchUseCase statusBatch) {
+    this.batch = batch;
+    this.statusBatch = statusBatch;
+  }
+
+  public record BatchItemRequest(String title, String description, OffsetDateTime dueAt,
+      @JsonProperty("idempotency_key") String idempotencyKey) {
+  }
+
+  public record BatchRequest(@NotNull @NotEmpty @Size(max = CreateTasksBatchUseCase.MAX_ITEMS)
+      List<BatchItemRequest> tasks) {
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record BatchItemResponse(int index, int status, String id, String location,
+      String error) {
+  }
+
+  public record BatchResponse(int created, int failed, List<BatchItemResponse> results) {
+  }
+
+  // Exactly one of 'ids' or 'filter'
+  public record BatchStatusRequest(
+      @Size(max = UpdateTaskStatusBatchUseCase.MAX_ITEMS) List<String> ids,
+      BatchStatusFilter filter, @NotNull TaskStatus status) {
+  }
+
+  public record BatchStatusFilter(TaskStatus status,
+      @JsonProperty("due_from") OffsetDateTime dueFrom,
+      @JsonProperty("due_to") OffsetDateTime dueTo) {
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record BatchStatusItemResponse(String id, int status,
+      @JsonProperty("task_status") TaskStatus taskStatus, String error) {
+  }
+
+  public record BatchStatusResponse(int updated, int failed,
+      @JsonProperty("has_more") boolean hasMore, List<BatchStatusItemResponse> results) {
+  }
+
+  // Always 200: per-item status codes (201 / 409 / 422) are in the body, in request order
+  @PostMapping("/tasks:batch")
+  public BatchResponse create(@RequestBody @Validated BatchRequest request) {
+    List<Result> results = batch.execute(request.tasks().stream()
+        .map(r -> r == null ? null
+            : new Item(r.title(), r.description(), r.dueAt(), r.idempotencyKey()))
+        .toList());
+    List<BatchItemResponse> items = results.stream().map(TaskBatchController::toResponse).toList();
+    int created = (int) items.stream().filter(i -> i.status() == 201).count(); // incl. replays
+    return new BatchResponse(created, items.size() - created, items);
+  }
+
+  // Per id: 200 (moved or already there), 404, or 409 when the state rules forbid the move
+  @PostMapping("/tasks:batchStatus")
+  public BatchStatusResponse updateStatus(@RequestBody @Validated BatchStatusRequest request) {
+    if ((request.ids() == null) == (request.filter() == null)) {
+      throw new BadRequestException("Provide exactly one of 'ids' or 'filter'");
+    }
+    UpdateTaskStatusBatchUseCase.Batch b = request.ids() != null
+        ? statusBatch.execute(request.ids(), request.status())
+        : statusBatch.executeMatching(new TaskFilter(request.filter().status(),
+            request.filter().dueFrom(), request.filter().dueTo()), request.status());
+    List<BatchStatusItemResponse> items = b.results().stream()
+        .map(r -> switch (r.outcome()) {
+          case UPDATED, UNCHANGED -> new BatchStatusItemResponse(r.id(), 200, r.status(), null);
+          case CONFLICT -> new BatchStatusItemResponse(r.id(), 409, r.status(),
+              "Cannot move from " + r.status() + " to " + request.status());
+          case NOT_FOUND -> new BatchStatusItemResponse(r.id(), 404, null, "Task not found");
+        }).toList();
+    int updated = (int) b.results().stream()
+        .filter(r -> r.outcome() == UpdateTaskStatusBatchUseCase.Outcome.UPDATED).count();
+    int failed = (int) items.stream().filter(i -> i.status() != 200).count();
+    return new BatchStatusResponse(updated, failed, b.hasMore(), items);
+  }
+
+  private static BatchItemResponse toResponse(Result r) {
+    return switch (r.outcome()) {
+      case CREATED, REPLAYED -> {
+        Task t = r.task();
+        yield new BatchItemResponse(r.index(), 201, t.id().value(), "/tasks/" + t.id().value(),
+            null);
+      }
+      case DUPLICATE -> new BatchItemResponse(r.index(), 409, null, null, r.error());
+      case INVALID -> new BatchItemResponse(r.index(), 422, null, null, r.error());
+    };
+  }
+}
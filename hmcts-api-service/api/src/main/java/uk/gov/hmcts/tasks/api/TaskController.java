@@ -1,10 +1,16 @@
 package uk.gov.hmcts.tasks.api;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,11 +26,19 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.strategy.TaskCount;
+import uk.gov.hmcts.tasks.application.usecases.CountTasksUseCase;
 import uk.gov.hmcts.tasks.application.usecases.CreateTaskUseCase;
 import uk.gov.hmcts.tasks.application.usecases.DeleteTaskUseCase;
+import uk.gov.hmcts.tasks.application.usecases.GetTaskCalendarUseCase;
 import uk.gov.hmcts.tasks.application.usecases.GetTaskUseCase;
 import uk.gov.hmcts.tasks.application.usecases.ListTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.SearchTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.TaskCalendar;
+import uk.gov.hmcts.tasks.application.usecases.TaskSlice;
 import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusUseCase;
 import uk.gov.hmcts.tasks.domain.Task;
 import uk.gov.hmcts.tasks.domain.TaskStatus;
@@ -38,14 +52,21 @@ public class TaskController {
   private final ListTasksUseCase list;
   private final GetTaskUseCase get;
   private final DeleteTaskUseCase delete;
+  private final GetTaskCalendarUseCase calendar;
+  private final CountTasksUseCase count;
+  private final SearchTasksUseCase search;
 
   public TaskController(CreateTaskUseCase create, UpdateTaskStatusUseCase update,
-      ListTasksUseCase list, GetTaskUseCase get, DeleteTaskUseCase delete) {
+      ListTasksUseCase list, GetTaskUseCase get, DeleteTaskUseCase delete,
+      GetTaskCalendarUseCase calendar, CountTasksUseCase count, SearchTasksUseCase search) {
     this.create = create;
     this.update = update;
     this.list = list;
     this.get = get;
     this.delete = delete;
+    this.calendar = calendar;
+    this.count = count;
+    this.search = search;
   }
 
   public record CreateRequest(@NotBlank String title, String description, OffsetDateTime dueAt) {
@@ -55,31 +76,154 @@ public class TaskController {
       OffsetDateTime dueAt) {
   }
 
+  public record TaskCursorPage(List<TaskResponse> data,
+      @JsonProperty("next_cursor") String nextCursor) {
+  }
+
+  public record TaskPage(List<TaskResponse> data, PageMeta meta) {
+  }
+
+  public record PageMeta(int page, @JsonProperty("page_size") int pageSize,
+      @JsonProperty("total_items") long totalItems, @JsonProperty("total_pages") long totalPages,
+      @JsonProperty("total_exact") boolean totalExact) {
+  }
+
+  public record CalendarResponse(YearMonth month, List<CalendarDayResponse> days) {
+  }
+
+  public record CalendarDayResponse(LocalDate date, Map<TaskStatus, Long> counts, long total,
+      List<TaskResponse> tasks) {
+  }
+
   public record UpdateStatusRequest(@NotNull TaskStatus status) {
   }
 
   @PostMapping
   public ResponseEntity<TaskResponse> create(@RequestBody @Validated CreateRequest request,
       @RequestHeader(value = "Idempotency-Key", required = false) String idemKey) {
-    Task t = create.execute(request.title(), request.description(), request.dueAt(), idemKey);
-    return ResponseEntity.status(HttpStatus.CREATED).header("Location", "/tasks/" + t.id().value())
-        .body(toResponse(t));
+    CreateTaskUseCase.Created c =
+        create.execute(request.title(), request.description(), request.dueAt(), idemKey);
+    Task t = c.task();
+    ResponseEntity.BodyBuilder created = ResponseEntity.status(HttpStatus.CREATED)
+        .header("Location", "/tasks/" + t.id().value());
+    if (c.replayed()) {
+      created.header("Idempotent-Replayed", "true");
+    }
+    return created.body(toResponse(t));
   }
 
+  // Month grid in one response: per-day status counts plus the first few tasks of each day
+  @GetMapping("/calendar")
+  public CalendarResponse calendar(@RequestParam YearMonth month,
+      @RequestParam(name = "per_day", defaultValue = "3") @Min(0) @Max(20) int perDay) {
+    TaskCalendar c = calendar.execute(month, perDay);
+    return new CalendarResponse(c.month(),
+        c.days().stream().map(d -> new CalendarDayResponse(d.date(), d.counts(), d.total(),
+            d.tasks().stream().map(TaskController::toResponse).toList())).toList());
+  }
+
+  // One (cache-backed) read gives both the ETag and the body, so the two always describe the same
+  // row; with a matching If-None-Match the body is just not serialised. Deliberately not a
+  // separate version-only query: that would skip the task cache and go to the primary on every
+  // poll, and on a mismatch the body could then come from a replica at another version. With
+  // task-cache.backend=memory a repeat 304 costs no query at all; without it, one primary-key
+  // read, about what a version lookup costs.
   @GetMapping("/{id}")
-  public TaskResponse get(@PathVariable String id) {
+  public ResponseEntity<TaskResponse> get(@PathVariable String id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
     try {
-      return toResponse(get.execute(id));
+      Task t = get.execute(id);
+      String etag = TaskEtags.of(t.version());
+      if (ifNoneMatch != null && TaskEtags.matches(ifNoneMatch, etag)) {
+        return notModified(etag);
+      }
+      return ResponseEntity.ok().eTag(etag).body(toResponse(t));
     } catch (IllegalArgumentException e) {
       throw new NotFoundException("Task '" + id + "' not found");
     }
   }
 
+  // Totals are opt-in: total=header adds X-Total-Count, total=envelope wraps the page as
+  // {data, meta}. Without it no count is run. X-Total-Count-Exact / meta.total_exact is false
+  // when the configured count strategy served a cached or estimated figure. The page query still
+  // runs on If-None-Match, but an unchanged page is answered 304 without being serialised.
   @GetMapping
-  public List<TaskResponse> list(@RequestParam(defaultValue = "1") @Min(1) int page,
+  public ResponseEntity<?> list(@RequestParam(defaultValue = "1") @Min(1) int page,
       @RequestParam(name = "page_size", defaultValue = "20") @Min(1) @Max(100) int pageSize,
-      @RequestParam(name = "sort", defaultValue = "dueDate") String sort) {
-    return list.execute(page, pageSize, sort).stream().map(this::toResponse).toList();
+      @RequestParam(name = "sort", defaultValue = "dueDate") String sort,
+      @RequestParam(required = false) TaskStatus status,
+      @RequestParam(name = "due_from", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+      @RequestParam(name = "due_to", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo,
+      @RequestParam(required = false) String total,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (total != null && !total.equals("header") && !total.equals("envelope")) {
+      throw new BadRequestException("total must be 'header' or 'envelope'");
+    }
+    TaskFilter filter = new TaskFilter(status, dueFrom, dueTo);
+    List<Task> rows = list.execute(page, pageSize, sort, filter);
+    TaskCount c = total == null ? null : count.execute(filter);
+    String etag = c == null ? TaskEtags.of(rows)
+        : TaskEtags.of(rows, total, c.value(), c.exact());
+    if (TaskEtags.matches(ifNoneMatch, etag)) {
+      return notModified(etag);
+    }
+    List<TaskResponse> items = rows.stream().map(TaskController::toResponse).toList();
+    if (total == null) {
+      return ResponseEntity.ok().eTag(etag).body(items);
+    }
+    if (total.equals("header")) {
+      return ResponseEntity.ok().eTag(etag).header("X-Total-Count", Long.toString(c.value()))
+          .header("X-Total-Count-Exact", Boolean.toString(c.exact())).body(items);
+    }
+    long pages = (c.value() + pageSize - 1) / pageSize;
+    return ResponseEntity.ok().eTag(etag)
+        .body(new TaskPage(items, new PageMeta(page, pageSize, c.value(), pages, c.exact())));
+  }
+
+  // Best matches first (title hits outrank description hits); filters as for the list
+  @GetMapping("/search")
+  public List<TaskResponse> search(@RequestParam String q,
+      @RequestParam(defaultValue = "1") @Min(1) int page,
+      @RequestParam(name = "page_size", defaultValue = "20") @Min(1) @Max(100) int pageSize,
+      @RequestParam(required = false) TaskStatus status,
+      @RequestParam(name = "due_from", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+      @RequestParam(name = "due_to", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo) {
+    return search.execute(q, new TaskFilter(status, dueFrom, dueTo), page, pageSize).stream()
+        .map(TaskController::toResponse).toList();
+  }
+
+  // Keyset mode: an empty cursor starts at the top; the returned next_cursor continues the same
+  // sort, so 'sort' only matters on the first request. Filters must be repeated on every call.
+  @GetMapping(params = "cursor")
+  public ResponseEntity<TaskCursorPage> listByCursor(@RequestParam String cursor,
+      @RequestParam(name = "page_size", defaultValue = "20") @Min(1) @Max(100) int pageSize,
+      @RequestParam(name = "sort", defaultValue = "dueDate") String sort,
+      @RequestParam(required = false) TaskStatus status,
+      @RequestParam(name = "due_from", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+      @RequestParam(name = "due_to", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    TaskFilter filter = new TaskFilter(status, dueFrom, dueTo);
+    TaskSlice slice;
+    if (cursor.isBlank()) {
+      slice = list.executeAfter(null, pageSize, sort, filter);
+    } else {
+      TaskCursorCodec.Decoded d = TaskCursorCodec.decode(cursor);
+      slice = list.executeAfter(d.seek(), pageSize, d.sort(), filter);
+    }
+    String next =
+        slice.next() == null ? null : TaskCursorCodec.encode(slice.strategy(), slice.next());
+    String etag = TaskEtags.of(slice.items(), next);
+    if (TaskEtags.matches(ifNoneMatch, etag)) {
+      return notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(
+        new TaskCursorPage(slice.items().stream().map(TaskController::toResponse).toList(), next));
   }
 
   @PutMapping("/{id}/status")
@@ -94,7 +238,11 @@ public class TaskController {
     delete.execute(id);
   }
 
-  private TaskResponse toResponse(Task t) {
+  private static <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+  }
+
+  static TaskResponse toResponse(Task t) {
     return new TaskResponse(t.id().value(), t.title(), t.description(), t.status().name(),
         t.dueAt());
   }
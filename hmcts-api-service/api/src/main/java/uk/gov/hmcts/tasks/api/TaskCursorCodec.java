@@ -0,0 +1,44 @@
+package uk.gov.hmcts.tasks.api;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Opaque cursor: base64url of "sort|status|dueAt|id". Clients must not parse it; the sort is
+ * carried inside so a cursor always continues the ordering it came from.
+ */
+final class TaskCursorCodec {
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  record Decoded(String sort, TaskSeek seek) {
+  }
+
+  private TaskCursorCodec() {
+  }
+
+  static String encode(String sort, TaskSeek seek) {
+    String raw = String.join("|", sort, seek.status().name(),
+        seek.dueAt() == null ? "" : seek.dueAt().toString(), seek.id());
+    return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static Decoded decode(String cursor) {
+    try {
+      String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+      if (parts.length != 4 || parts[0].isEmpty() || parts[3].isEmpty()) {
+        throw new IllegalArgumentException("wrong shape");
+      }
+      UUID.fromString(parts[3]); // task ids are UUIDs; reject tampered cursors up front
+      OffsetDateTime dueAt = parts[2].isEmpty() ? null : OffsetDateTime.parse(parts[2]);
+      return new Decoded(parts[0], new TaskSeek(TaskStatus.valueOf(parts[1]), dueAt, parts[3]));
+    } catch (RuntimeException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
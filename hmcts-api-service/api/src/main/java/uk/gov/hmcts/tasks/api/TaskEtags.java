@@ -0,0 +1,63 @@
+package uk.gov.hmcts.tasks.api;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import uk.gov.hmcts.tasks.domain.Task;
+
+/**
+ * Strong validators for task reads. A single task's ETag is its row version, which every change
+ * bumps. A list's is a digest of the page's (id, version) pairs in order plus whatever else the
+ * body carries, so it changes when a row on the page changes, leaves, joins or moves, and is
+ * worked out from rows already loaded, without serialising them.
+ */
+final class TaskEtags {
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private TaskEtags() {
+  }
+
+  static String of(long version) {
+    return "\"" + version + "\"";
+  }
+
+  static String of(List<Task> items, Object... extra) {
+    MessageDigest md = sha256();
+    ByteBuffer v = ByteBuffer.allocate(Long.BYTES);
+    for (Task t : items) {
+      md.update(t.id().value().getBytes(StandardCharsets.US_ASCII));
+      md.update(v.clear().putLong(t.version()).array());
+    }
+    for (Object e : extra) {
+      md.update((byte) '|');
+      md.update(String.valueOf(e).getBytes(StandardCharsets.UTF_8));
+    }
+    return "\"" + ENCODER.encodeToString(Arrays.copyOf(md.digest(), 16)) + "\"";
+  }
+
+  // If-None-Match compares weakly (RFC 9110 13.1.2), so a W/ prefix still matches
+  static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      String t = tag.trim();
+      if (t.equals("*") || (t.startsWith("W/") ? t.substring(2) : t).equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
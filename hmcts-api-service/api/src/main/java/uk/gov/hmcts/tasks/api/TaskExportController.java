@@ -0,0 +1,102 @@
+package uk.gov.hmcts.tasks.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.usecases.ExportTasksUseCase;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Full export, written to the response as rows come off the database cursor. Nothing is collected
+ * in memory, so heap use does not depend on how many tasks match.
+ */
+@RestController
+@Validated
+public class TaskExportController {
+  static final String NDJSON = "application/x-ndjson";
+  static final String CSV = "text/csv";
+
+  private final ExportTasksUseCase export;
+  private final ObjectWriter json;
+
+  public TaskExportController(ExportTasksUseCase export, ObjectMapper mapper) {
+    this.export = export;
+    this.json = mapper.writerFor(TaskController.TaskResponse.class);
+  }
+
+  @GetMapping("/tasks/export")
+  public void export(@RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) TaskStatus status,
+      @RequestParam(name = "due_from", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueFrom,
+      @RequestParam(name = "due_to", required = false) @DateTimeFormat(
+          iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dueTo,
+      HttpServletResponse response) throws IOException {
+    boolean csv = switch (format) {
+      case "csv" -> true;
+      case "ndjson" -> false;
+      default -> throw new BadRequestException("format must be ndjson or csv");
+    };
+    TaskFilter filter = new TaskFilter(status, dueFrom, dueTo);
+    response.setContentType((csv ? CSV : NDJSON) + ";charset=UTF-8");
+    response.setHeader("Content-Disposition",
+        "attachment; filename=\"tasks." + (csv ? "csv" : "ndjson") + "\"");
+    Writer w = new BufferedWriter(
+        new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    if (csv) {
+      w.write("id,title,description,status,dueAt\r\n");
+    }
+    export.execute(filter, t -> {
+      try {
+        if (csv) {
+          writeCsv(w, t);
+        } else {
+          w.write(json.writeValueAsString(TaskController.toResponse(t)));
+          w.write('\n');
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    w.flush();
+  }
+
+  // RFC 4180: quote a field when it holds a comma, quote or line break; double embedded quotes
+  private static void writeCsv(Writer w, Task t) throws IOException {
+    w.write(t.id().value());
+    w.write(',');
+    w.write(csvField(t.title()));
+    w.write(',');
+    w.write(csvField(t.description()));
+    w.write(',');
+    w.write(t.status().name());
+    w.write(',');
+    w.write(t.dueAt() == null ? "" : t.dueAt().toString());
+    w.write("\r\n");
+  }
+
+  static String csvField(String s) {
+    if (s == null || s.isEmpty()) {
+      return "";
+    }
+    if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+      return s;
+    }
+    return '"' + s.replace("\"", "\"\"") + '"';
+  }
+}
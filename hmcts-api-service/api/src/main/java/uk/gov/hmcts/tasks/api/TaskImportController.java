@@ -0,0 +1,49 @@
+package uk.gov.hmcts.tasks.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Row;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Summary;
+
+/**
+ * Bulk import of new tasks from NDJSON or CSV (the export formats). The body is read record by
+ * record while earlier chunks are already being written, so the file is never held in memory.
+ */
+@RestController
+public class TaskImportController {
+  private static final Logger log = LoggerFactory.getLogger(TaskImportController.class);
+
+  private final ImportTasksUseCase importer;
+  private final ObjectMapper mapper;
+
+  public TaskImportController(ImportTasksUseCase importer, ObjectMapper mapper) {
+    this.importer = importer;
+    this.mapper = mapper;
+  }
+
+  @PostMapping(path = "/tasks/import",
+      consumes = {TaskExportController.NDJSON, TaskExportController.CSV})
+  public Summary importTasks(HttpServletRequest request) throws IOException {
+    MediaType type = MediaType.parseMediaType(request.getContentType());
+    BufferedReader in = new BufferedReader(
+        new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+    Iterator<Row> rows = type.isCompatibleWith(MediaType.valueOf(TaskExportController.CSV))
+        ? TaskImportReader.csv(in) : TaskImportReader.ndjson(in, mapper);
+    Summary s = importer.execute(rows, p -> log.info(
+        "Task import: {} read, {} imported, {} rejected", p.read(), p.imported(), p.rejected()));
+    log.info("Task import finished: {} read, {} imported, {} rejected", s.read(), s.imported(),
+        s.rejected());
+    return s;
+  }
+}
@@ -0,0 +1,197 @@
+package uk.gov.hmcts.tasks.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Row;
+
+/**
+ * Lazy readers for the import formats: one record is parsed per next(), straight off the request
+ * stream. Field names match the export (title, description, status, dueAt); other fields, such as
+ * an exported id, are ignored.
+ */
+final class TaskImportReader {
+  private TaskImportReader() {
+  }
+
+  static Iterator<Row> ndjson(BufferedReader in, ObjectMapper mapper) {
+    long[] line = {0};
+    return new RecordIterator(() -> {
+      String s;
+      do {
+        s = in.readLine();
+        line[0]++;
+      } while (s != null && s.isBlank());
+      if (s == null) {
+        return null;
+      }
+      try {
+        JsonNode n = mapper.readTree(s);
+        if (!n.isObject()) {
+          return malformed(line[0], "not a JSON object");
+        }
+        return new Row(line[0], text(n, "title"), text(n, "description"), text(n, "status"),
+            text(n, "dueAt"), null);
+      } catch (IOException e) {
+        return malformed(line[0], "malformed JSON");
+      }
+    });
+  }
+
+  // RFC 4180 with a header row; quoted fields may contain commas, quotes and line breaks
+  static Iterator<Row> csv(BufferedReader in) {
+    CsvParser p = new CsvParser(in);
+    List<String> header = p.next();
+    if (header == null) {
+      return new RecordIterator(() -> null);
+    }
+    Map<String, Integer> col = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      col.putIfAbsent(header.get(i).trim(), i);
+    }
+    if (!col.containsKey("title")) {
+      throw new BadRequestException("CSV header must include a 'title' column");
+    }
+    return new RecordIterator(() -> {
+      List<String> r = p.next();
+      if (r == null) {
+        return null;
+      }
+      if (p.unterminated) {
+        return malformed(p.start, "unterminated quoted field");
+      }
+      Function<String, String> f = name -> {
+        Integer i = col.get(name);
+        return i == null || i >= r.size() ? null : r.get(i);
+      };
+      return new Row(p.start, f.apply("title"), f.apply("description"), f.apply("status"),
+          f.apply("dueAt"), null);
+    });
+  }
+
+  private static Row malformed(long line, String why) {
+    return new Row(line, null, null, null, null, why);
+  }
+
+  private static String text(JsonNode n, String field) {
+    JsonNode v = n.get(field);
+    return v == null || v.isNull() ? null : v.asText();
+  }
+
+  private interface Source {
+    Row read() throws IOException;
+  }
+
+  private static final class RecordIterator implements Iterator<Row> {
+    private final Source source;
+    private Row next;
+    private boolean done;
+
+    RecordIterator(Source source) {
+      this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !done) {
+        try {
+          next = source.read();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        done = next == null;
+      }
+      return next != null;
+    }
+
+    @Override
+    public Row next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Row r = next;
+      next = null;
+      return r;
+    }
+  }
+
+  private static final class CsvParser {
+    private final BufferedReader in;
+    long line;
+    long start; // line the current record began on
+    boolean unterminated;
+
+    CsvParser(BufferedReader in) {
+      this.in = in;
+    }
+
+    // Next record's fields, or null at end of input; blank lines are skipped
+    List<String> next() {
+      try {
+        String s;
+        do {
+          s = in.readLine();
+          if (s == null) {
+            return null;
+          }
+          line++;
+        } while (s.isEmpty());
+        start = line;
+        unterminated = false;
+        List<String> fields = new ArrayList<>();
+        StringBuilder f = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+          if (i == s.length()) {
+            if (!quoted) {
+              fields.add(f.toString());
+              return fields;
+            }
+            String more = in.readLine(); // line break inside a quoted field
+            if (more == null) {
+              unterminated = true;
+              fields.add(f.toString());
+              return fields;
+            }
+            line++;
+            f.append('\n');
+            s = more;
+            i = 0;
+            continue;
+          }
+          char c = s.charAt(i++);
+          if (quoted) {
+            if (c == '"' && i < s.length() && s.charAt(i) == '"') {
+              f.append('"');
+              i++;
+            } else if (c == '"') {
+              quoted = false;
+            } else {
+              f.append(c);
+            }
+          } else if (c == '"') {
+            quoted = true;
+          } else if (c == ',') {
+            fields.add(f.toString());
+            f.setLength(0);
+          } else {
+            f.append(c);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
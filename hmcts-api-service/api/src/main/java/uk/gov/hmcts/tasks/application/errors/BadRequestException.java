@@ -0,0 +1,7 @@
+package uk.gov.hmcts.tasks.application.errors;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.tasks.application.errors;
+
+// Well-formed request the current state cannot accept (422), e.g. an Idempotency-Key reused
+// for a different payload
+public class UnprocessableEntityException extends RuntimeException {
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+}
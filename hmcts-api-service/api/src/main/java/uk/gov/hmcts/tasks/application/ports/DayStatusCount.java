@@ -0,0 +1,8 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+import java.time.LocalDate;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/** One GROUP BY row: how many tasks in {@code status} are due on {@code day} (UTC). */
+public record DayStatusCount(LocalDate day, TaskStatus status, long count) {
+}
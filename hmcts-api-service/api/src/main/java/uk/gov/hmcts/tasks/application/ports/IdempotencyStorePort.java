@@ -1,5 +1,69 @@
 package uk.gov.hmcts.tasks.application.ports;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+/**
+ * Idempotency keys for task creation. A key is claimed with the request's fingerprint before the
+ * task is written and completed with the new task's id afterwards, so a retry can be answered
+ * from the store: same fingerprint and an id means replay, no id means the first request is
+ * still running (or failed without releasing), another fingerprint means the key was misused.
+ *
+ * <p>A claim that is never completed or released (the process died between the claim and the
+ * write, or completing failed after the task was written) stays in flight, and retries with that
+ * key are answered 409 until it expires, 'ttl' after the claim. Releasing it instead could let a
+ * retry create the task twice.
+ */
 public interface IdempotencyStorePort {
-    boolean tryStore(String key, String fingerprint);
+    // taskId is null until the request that claimed the key has created its task
+    record Stored(String fingerprint, TaskId taskId) {
+    }
+
+    // A claimed key and the task that will complete it
+    record Claim(String key, String fingerprint, TaskId taskId) {
+    }
+
+    // Empty when the key was free and now belongs to the caller; otherwise what it holds
+    Optional<Stored> claim(String key, String fingerprint);
+
+    // Claims several keys (key -> fingerprint) at once and returns what the ones that were not
+    // free hold; keys absent from the result now belong to the caller
+    default Map<String, Stored> claimAll(Map<String, String> fingerprints) {
+        Map<String, Stored> held = new HashMap<>();
+        fingerprints.forEach((key, fp) -> claim(key, fp).ifPresent(s -> held.put(key, s)));
+        return held;
+    }
+
+    void complete(String key, String fingerprint, TaskId taskId);
+
+    // Gives the key back after the claiming request failed, so a retry can try again
+    void release(String key);
+
+    /**
+     * Runs the write that creates the claimed tasks, then completes their keys; if the write
+     * fails the keys are released. Here completing is retried once and, should that fail too, the
+     * keys stay in flight. Stores kept in the task database override this to complete in the
+     * write's own transaction, so a committed task never leaves its key behind.
+     */
+    default <T> T completeWith(Collection<Claim> claims, Supplier<T> write) {
+        T written;
+        try {
+            written = write.get();
+        } catch (RuntimeException e) {
+            claims.forEach(c -> release(c.key()));
+            throw e;
+        }
+        for (Claim c : claims) {
+            try {
+                complete(c.key(), c.fingerprint(), c.taskId());
+            } catch (RuntimeException e) {
+                complete(c.key(), c.fingerprint(), c.taskId());
+            }
+        }
+        return written;
+    }
 }
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+import uk.gov.hmcts.tasks.domain.Task;
+import java.util.List;
+
+// Bulk path for imports: each call writes one chunk of new tasks, committed on its own, using the
+// fastest mechanism the database offers
+public interface TaskBulkLoadPort {
+  void load(List<Task> chunk);
+}
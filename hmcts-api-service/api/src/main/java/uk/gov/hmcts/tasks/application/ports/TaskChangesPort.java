@@ -0,0 +1,11 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+// Told after every committed write a use case makes (create, status change, delete, import,
+// archive), so caches over listings can drop pages read before it
+public interface TaskChangesPort {
+  // Nothing listens: listing cache disabled
+  TaskChangesPort NONE = () -> {
+  };
+
+  void changed();
+}
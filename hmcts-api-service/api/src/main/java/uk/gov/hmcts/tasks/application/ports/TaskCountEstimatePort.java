@@ -0,0 +1,8 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+import java.util.OptionalLong;
+
+// Approximate size of the whole task table from database statistics; empty when unavailable
+public interface TaskCountEstimatePort {
+  OptionalLong estimateAll();
+}
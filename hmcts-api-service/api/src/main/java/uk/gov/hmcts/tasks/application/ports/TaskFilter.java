@@ -0,0 +1,12 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+import java.time.OffsetDateTime;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Optional list filters, applied as SQL predicates. {@code dueFrom} is inclusive and
+ * {@code dueTo} exclusive, so consecutive months/days never overlap. Null means "any".
+ */
+public record TaskFilter(TaskStatus status, OffsetDateTime dueFrom, OffsetDateTime dueTo) {
+  public static final TaskFilter NONE = new TaskFilter(null, null, null);
+}
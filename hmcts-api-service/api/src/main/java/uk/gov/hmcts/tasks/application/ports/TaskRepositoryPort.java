@@ -1,14 +1,54 @@
 package uk.gov.hmcts.tasks.application.ports;
 
 import uk.gov.hmcts.tasks.domain.*;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 public interface TaskRepositoryPort {
-  Task save(Task task);
+  // New task with a fresh id: written without first checking for an existing row
+  Task insert(Task task);
 
+  // Many new tasks in one transaction, sent to the database as JDBC batches
+  List<Task> insertAll(List<Task> tasks);
+
+  // Also finds archived tasks (see archiveDone)
   Optional<Task> findById(TaskId id);
 
-  List<Task> findAll(int page, int pageSize);
+  List<Task> findAll(TaskSortOrder order, TaskFilter filter, int page, int pageSize);
+
+  // Keyset page: up to 'limit' tasks strictly after 'after' (null = from the start)
+  List<Task> findAfter(TaskSortOrder order, TaskFilter filter, TaskSeek after, int limit);
+
+  // Exact number of tasks matching the filter (one COUNT over the same predicates as findAll)
+  long count(TaskFilter filter);
+
+  // Every matching task in due-date order, handed to 'sink' as rows arrive (nothing is buffered)
+  void forEach(TaskFilter filter, Consumer<Task> sink);
+
+  // Calendar: days are UTC due dates in [from, to)
+  List<DayStatusCount> countByDueDay(LocalDate from, LocalDate to);
+
+  List<Task> findFirstPerDueDay(LocalDate from, LocalDate to, int perDay);
+
+  // Single conditional UPDATE (status and version); returns rows changed, 0 if the task is missing
+  // or not currently in one of 'from'
+  int updateStatus(TaskId id, Set<TaskStatus> from, TaskStatus to);
+
+  // Set-based variants for bulk transitions; callers keep 'ids' bounded (one IN list each).
+  // Ids with no row are simply absent from the map.
+  Map<TaskId, TaskStatus> findStatuses(Collection<TaskId> ids);
+
+  // Current row versions (bumped by every change); ids with no live row are absent
+  Map<TaskId, Long> findVersions(Collection<TaskId> ids);
+
+  int updateStatusAll(Collection<TaskId> ids, Set<TaskStatus> from, TaskStatus to);
+
+  // Single DELETE (falling back to the archive); returns rows removed, 0 if the task is missing
+  int delete(TaskId id);
 
-  void delete(TaskId id);
+  // Moves up to 'limit' DONE tasks last changed before 'before' out of the live table, in one
+  // transaction; returns how many moved. Archived tasks drop out of listings, export and calendar.
+  int archiveDone(OffsetDateTime before, int limit);
 }
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+import java.util.List;
+import uk.gov.hmcts.tasks.domain.Task;
+
+// Keyword search over title and description, best matches first; 'filter' narrows as for listings
+public interface TaskSearchPort {
+  List<Task> search(String query, TaskFilter filter, int page, int pageSize);
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+import java.time.OffsetDateTime;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Sort key of the last row a client has seen. The next page starts strictly after it, so the
+ * database seeks into the index instead of skipping OFFSET rows.
+ */
+public record TaskSeek(TaskStatus status, OffsetDateTime dueAt, String id) {
+  public static TaskSeek after(Task t) {
+    return new TaskSeek(t.status(), t.dueAt(), t.id().value());
+  }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.tasks.application.ports;
+
+/**
+ * Global orderings the repository can serve straight from an index, so a page is a slice of the
+ * whole table rather than a sorted slice of arbitrary rows.
+ */
+public enum TaskSortOrder {
+  /** due_at ascending (no due date last), id as tie-breaker; idx_tasks_due_at. */
+  DUE_DATE,
+  /**
+   * status workflow order (OPEN, IN_PROGRESS, DONE), then due date; idx_tasks_status_due_at.
+   * The workflow order is the status names in descending order, which keeps it a plain column
+   * sort.
+   */
+  STATUS
+}
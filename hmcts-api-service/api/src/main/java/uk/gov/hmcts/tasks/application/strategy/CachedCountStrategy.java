@@ -0,0 +1,99 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+
+/**
+ * Remembers each filter's total. Once an entry is older than the TTL it is still served, and one
+ * background refresh is started on the executor, so no page view waits for a COUNT after the
+ * first. Only the first request for a filter counts inline.
+ *
+ * <p>Bounded like the other caches: an LRU of at most MAX_ENTRIES filters (arbitrary due ranges
+ * make for many keys), and an entry more than MAX_AGE_TTLS TTLs old is too stale to serve while
+ * refreshing, so it is dropped and counted inline again.
+ */
+public class CachedCountStrategy implements TaskCountStrategy {
+  static final int MAX_ENTRIES = 1000;
+  static final int MAX_AGE_TTLS = 10;
+
+  private record Entry(long value, Instant at, boolean refreshing) {
+  }
+
+  private final TaskCountStrategy delegate;
+  private final Duration ttl;
+  private final Duration maxAge;
+  private final Clock clock;
+  private final Executor executor;
+  // Access-ordered, so the eldest entry is the least recently used
+  private final Map<TaskFilter, Entry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<TaskFilter, Entry> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  public CachedCountStrategy(TaskCountStrategy delegate, Duration ttl, Clock clock,
+      Executor executor) {
+    this.delegate = delegate;
+    this.ttl = ttl;
+    this.maxAge = ttl.multipliedBy(MAX_AGE_TTLS);
+    this.clock = clock;
+    this.executor = executor;
+  }
+
+  public TaskCount count(TaskFilter filter) {
+    Instant now = clock.instant();
+    Entry e;
+    boolean refresh = false;
+    synchronized (cache) {
+      e = cache.get(filter);
+      if (e != null && e.at().plus(maxAge).isBefore(now)) {
+        cache.remove(filter);
+        e = null;
+      }
+      if (e != null && !e.refreshing() && e.at().plus(ttl).isBefore(now)) {
+        cache.put(filter, new Entry(e.value(), e.at(), true));
+        refresh = true;
+      }
+    }
+    if (e == null) {
+      TaskCount c = delegate.count(filter);
+      put(filter, new Entry(c.value(), clock.instant(), false));
+      return c;
+    }
+    if (refresh) {
+      Entry stale = e;
+      executor.execute(() -> refresh(filter, stale));
+    }
+    return new TaskCount(e.value(), false);
+  }
+
+  private void refresh(TaskFilter filter, Entry stale) {
+    try {
+      put(filter, new Entry(delegate.count(filter).value(), clock.instant(), false));
+    } catch (RuntimeException ex) {
+      put(filter, stale); // keep serving the old value; the next request retries
+    }
+  }
+
+  private void put(TaskFilter filter, Entry e) {
+    synchronized (cache) {
+      cache.put(filter, e);
+    }
+  }
+
+  int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  public String name() {
+    return "cached";
+  }
+}
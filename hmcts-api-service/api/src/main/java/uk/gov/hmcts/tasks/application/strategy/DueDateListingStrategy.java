@@ -1,8 +1,10 @@
 package uk.gov.hmcts.tasks.application.strategy;
 
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
 import uk.gov.hmcts.tasks.domain.Task;
-import java.util.Comparator;
 import java.util.List;
 
 public class DueDateListingStrategy implements TaskListingStrategy {
@@ -12,10 +14,12 @@ public class DueDateListingStrategy implements TaskListingStrategy {
     this.repo = repo;
   }
 
-  public List<Task> list(int page, int pageSize) {
-    return repo.findAll(page, pageSize).stream()
-        .sorted(Comparator.comparing(Task::dueAt, Comparator.nullsLast(Comparator.naturalOrder())))
-        .toList();
+  public List<Task> list(TaskFilter filter, int page, int pageSize) {
+    return repo.findAll(TaskSortOrder.DUE_DATE, filter, page, pageSize);
+  }
+
+  public List<Task> listAfter(TaskFilter filter, TaskSeek after, int limit) {
+    return repo.findAfter(TaskSortOrder.DUE_DATE, filter, after, limit);
   }
 
   public String name() {
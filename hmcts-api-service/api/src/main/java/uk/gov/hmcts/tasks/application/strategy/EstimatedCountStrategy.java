@@ -0,0 +1,30 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+import java.util.OptionalLong;
+import uk.gov.hmcts.tasks.application.ports.TaskCountEstimatePort;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+
+// Statistics can only size the whole table, so filtered lists (or missing stats) use the fallback
+public class EstimatedCountStrategy implements TaskCountStrategy {
+  private final TaskCountEstimatePort estimates;
+  private final TaskCountStrategy fallback;
+
+  public EstimatedCountStrategy(TaskCountEstimatePort estimates, TaskCountStrategy fallback) {
+    this.estimates = estimates;
+    this.fallback = fallback;
+  }
+
+  public TaskCount count(TaskFilter filter) {
+    if (TaskFilter.NONE.equals(filter)) {
+      OptionalLong estimate = estimates.estimateAll();
+      if (estimate.isPresent()) {
+        return new TaskCount(estimate.getAsLong(), false);
+      }
+    }
+    return fallback.count(filter);
+  }
+
+  public String name() {
+    return "estimate";
+  }
+}
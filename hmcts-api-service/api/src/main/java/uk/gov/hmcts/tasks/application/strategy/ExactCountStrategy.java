@@ -0,0 +1,20 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+
+public class ExactCountStrategy implements TaskCountStrategy {
+  private final TaskRepositoryPort repo;
+
+  public ExactCountStrategy(TaskRepositoryPort repo) {
+    this.repo = repo;
+  }
+
+  public TaskCount count(TaskFilter filter) {
+    return new TaskCount(repo.count(filter), true);
+  }
+
+  public String name() {
+    return "exact";
+  }
+}
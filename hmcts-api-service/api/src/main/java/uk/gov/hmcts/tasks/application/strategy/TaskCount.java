@@ -0,0 +1,5 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+/** A total for a listing; {@code exact} is false for estimates and counts served from cache. */
+public record TaskCount(long value, boolean exact) {
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+
+// How listing totals are worked out: exact, cached or estimated (listing.count.strategy)
+public interface TaskCountStrategy {
+  TaskCount count(TaskFilter filter);
+
+  String name();
+}
@@ -1,10 +1,14 @@
 package uk.gov.hmcts.tasks.application.strategy;
 
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
 import uk.gov.hmcts.tasks.domain.Task;
 import java.util.List;
 
 public interface TaskListingStrategy {
-  List<Task> list(int page, int pageSize);
+  List<Task> list(TaskFilter filter, int page, int pageSize);
+
+  List<Task> listAfter(TaskFilter filter, TaskSeek after, int limit);
 
   String name();
 }
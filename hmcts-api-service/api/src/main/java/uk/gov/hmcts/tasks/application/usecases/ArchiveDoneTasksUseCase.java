@@ -0,0 +1,47 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.ports.TaskChangesPort;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Moves DONE tasks that have not changed for a given age out of the live table, one chunk per
+ * transaction, so each step locks few rows and the live table's size follows open work rather
+ * than history. Archived tasks can still be fetched by id.
+ */
+public class ArchiveDoneTasksUseCase {
+  private final TaskRepositoryPort repo;
+  private final Clock clock;
+  private final TaskChangesPort changes;
+
+  public ArchiveDoneTasksUseCase(TaskRepositoryPort repo, Clock clock) {
+    this(repo, clock, TaskChangesPort.NONE);
+  }
+
+  public ArchiveDoneTasksUseCase(TaskRepositoryPort repo, Clock clock, TaskChangesPort changes) {
+    this.repo = repo;
+    this.clock = clock;
+    this.changes = changes;
+  }
+
+  // Returns the number of tasks archived; stops at the first chunk that comes back short
+  public int execute(Duration age, int chunkSize) {
+    if (age.isNegative() || chunkSize < 1) {
+      throw new IllegalArgumentException("age must be >= 0 and chunkSize >= 1");
+    }
+    OffsetDateTime before = OffsetDateTime.now(clock).minus(age);
+    int total = 0;
+    int moved;
+    do {
+      moved = repo.archiveDone(before, chunkSize);
+      if (moved > 0) {
+        changes.changed(); // archived tasks drop out of listings
+      }
+      total += moved;
+    } while (moved == chunkSize);
+    return total;
+  }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.strategy.TaskCount;
+import uk.gov.hmcts.tasks.application.strategy.TaskCountStrategy;
+
+// Listing totals, only worked out when a client asks for them (GET /tasks?total=...)
+public class CountTasksUseCase {
+  private final TaskCountStrategy strategy;
+
+  public CountTasksUseCase(TaskCountStrategy strategy) {
+    this.strategy = strategy;
+  }
+
+  public TaskCount execute(TaskFilter filter) {
+    return strategy.count(ListTasksUseCase.checked(filter));
+  }
+}
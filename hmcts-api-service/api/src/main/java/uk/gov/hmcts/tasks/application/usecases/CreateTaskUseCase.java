@@ -1,35 +1,79 @@
 package uk.gov.hmcts.tasks.application.usecases;
 
+import uk.gov.hmcts.tasks.application.errors.UnprocessableEntityException;
 import uk.gov.hmcts.tasks.application.ports.*;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Claim;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
 import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.OffsetDateTime;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 
 public class CreateTaskUseCase {
+  // replayed: answered from the idempotency store; nothing was written
+  public record Created(Task task, boolean replayed) {
+  }
+
   private final TaskRepositoryPort repo;
   private final IdempotencyStorePort idem;
+  private final TaskChangesPort changes;
 
   public CreateTaskUseCase(TaskRepositoryPort repo, IdempotencyStorePort idem) {
+    this(repo, idem, TaskChangesPort.NONE);
+  }
+
+  public CreateTaskUseCase(TaskRepositoryPort repo, IdempotencyStorePort idem,
+      TaskChangesPort changes) {
     this.repo = repo;
     this.idem = idem;
+    this.changes = changes;
   }
 
-  public Task execute(String title, String description, OffsetDateTime dueAt, String idemKey) {
-    if (idemKey != null && !idemKey.isBlank()) {
-      String fingerprint = fingerprint(title, description, dueAt);
-      boolean ok = idem.tryStore(idemKey, fingerprint);
-      if (!ok)
-        throw new IllegalStateException("Duplicate request (idempotency)");
+  public Created execute(String title, String description, OffsetDateTime dueAt,
+      String idemKey) {
+    if (idemKey == null || idemKey.isBlank()) {
+      return new Created(insert(title, description, dueAt), false);
+    }
+    String fingerprint = fingerprint(title, description, dueAt);
+    Optional<Stored> prior = idem.claim(idemKey, fingerprint);
+    if (prior.isPresent()) {
+      return new Created(replay(prior.get(), fingerprint, title, description, dueAt), true);
+    }
+    Task fresh = Task.createNew(title, description, dueAt);
+    Task t = idem.completeWith(List.of(new Claim(idemKey, fingerprint, fresh.id())),
+        () -> repo.insert(fresh));
+    changes.changed();
+    return new Created(t, false);
+  }
+
+  private Task insert(String title, String description, OffsetDateTime dueAt) {
+    Task t = repo.insert(Task.createNew(title, description, dueAt));
+    changes.changed();
+    return t;
+  }
+
+  // The original 201 body is the new task, and everything in it but the id came from the
+  // request, which the matching fingerprint says this one repeats. So the stored id is all that
+  // is needed to rebuild it, without reading the task back (it may have changed or gone since).
+  static Task replay(Stored prior, String fingerprint, String title, String description,
+      OffsetDateTime dueAt) {
+    if (!prior.fingerprint().equals(fingerprint)) {
+      throw new UnprocessableEntityException(
+          "Idempotency-Key was already used for a different request");
+    }
+    if (prior.taskId() == null) {
+      throw new IllegalStateException("A request with this Idempotency-Key is still in progress");
     }
-    Task t = Task.createNew(title, description, dueAt);
-    return repo.save(t);
+    return new Task(prior.taskId(), title, description, TaskStatus.OPEN, dueAt);
   }
 
   // Canonical payload + SHA-256 for a stable, low-collision fingerprint
-  private static String fingerprint(String title, String description, OffsetDateTime dueAt) {
+  static String fingerprint(String title, String description, OffsetDateTime dueAt) {
     String json = """
         {"method":"POST","path":"/tasks","title":%s,"description":%s,"dueAt":%s}
         """.formatted(quoteOrNull(title), quoteOrNull(description),
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.errors.UnprocessableEntityException;
+import uk.gov.hmcts.tasks.application.ports.*;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Claim;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
+import uk.gov.hmcts.tasks.domain.Task;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk create: each item is checked on its own (title, idempotency key) and reported back in
+ * request order; everything that passes is written in a single batched insert, and the keys are
+ * claimed together before it and completed along with it. An item whose key already created
+ * a task with the same payload is replayed, as for a single create.
+ */
+public class CreateTasksBatchUseCase {
+  public static final int MAX_ITEMS = 1000;
+
+  public record Item(String title, String description, OffsetDateTime dueAt,
+      String idempotencyKey) {
+  }
+
+  public enum Outcome {
+    CREATED, REPLAYED, DUPLICATE, INVALID
+  }
+
+  public record Result(int index, Outcome outcome, Task task, String error) {
+  }
+
+  private final TaskRepositoryPort repo;
+  private final IdempotencyStorePort idem;
+  private final TaskChangesPort changes;
+
+  public CreateTasksBatchUseCase(TaskRepositoryPort repo, IdempotencyStorePort idem) {
+    this(repo, idem, TaskChangesPort.NONE);
+  }
+
+  public CreateTasksBatchUseCase(TaskRepositoryPort repo, IdempotencyStorePort idem,
+      TaskChangesPort changes) {
+    this.repo = repo;
+    this.idem = idem;
+    this.changes = changes;
+  }
+
+  public List<Result> execute(List<Item> items) {
+    if (items.size() > MAX_ITEMS) {
+      throw new BadRequestException("at most " + MAX_ITEMS + " tasks per batch");
+    }
+    // All keys are claimed in one call. A key repeated within the batch is claimed for its first
+    // item; the later ones are answered as retries of it.
+    Map<String, String> fingerprints = new LinkedHashMap<>();
+    for (Item item : items) {
+      if (problem(item) == null && hasKey(item)) {
+        fingerprints.putIfAbsent(item.idempotencyKey(), fingerprint(item));
+      }
+    }
+    Map<String, Stored> held = fingerprints.isEmpty() ? Map.of() : idem.claimAll(fingerprints);
+
+    List<Result> results = new ArrayList<>(items.size());
+    List<Task> accepted = new ArrayList<>(items.size());
+    List<Claim> claims = new ArrayList<>();
+    Set<String> taken = new HashSet<>();
+    for (int i = 0; i < items.size(); i++) {
+      Item item = items.get(i);
+      String problem = problem(item);
+      if (problem != null) {
+        results.add(new Result(i, Outcome.INVALID, null, problem));
+        continue;
+      }
+      String key = hasKey(item) ? item.idempotencyKey() : null;
+      String fingerprint = key == null ? null : fingerprint(item);
+      if (key != null) {
+        Stored prior = held.get(key);
+        if (prior == null && !taken.add(key)) {
+          prior = new Stored(fingerprints.get(key), null); // in flight: this batch claimed it
+        }
+        if (prior != null) {
+          results.add(replay(i, prior, fingerprint, item));
+          continue;
+        }
+      }
+      Task t = Task.createNew(item.title(), item.description(), item.dueAt());
+      accepted.add(t);
+      if (key != null) {
+        claims.add(new Claim(key, fingerprint, t.id()));
+      }
+      results.add(new Result(i, Outcome.CREATED, t, null));
+    }
+    if (!accepted.isEmpty()) {
+      idem.completeWith(claims, () -> repo.insertAll(accepted));
+      changes.changed();
+    }
+    return results;
+  }
+
+  // Checked per item so one bad row cannot fail the whole insert; lengths are the columns' (as
+  // for imports), measured after the trim Task applies
+  private static String problem(Item item) {
+    if (item == null || item.title() == null || item.title().isBlank()) {
+      return "title required";
+    }
+    if (item.title().strip().length() > ImportTasksUseCase.MAX_TITLE) {
+      return "title longer than " + ImportTasksUseCase.MAX_TITLE;
+    }
+    if (item.description() != null
+        && item.description().strip().length() > ImportTasksUseCase.MAX_DESCRIPTION) {
+      return "description longer than " + ImportTasksUseCase.MAX_DESCRIPTION;
+    }
+    return null;
+  }
+
+  private static boolean hasKey(Item item) {
+    return item.idempotencyKey() != null && !item.idempotencyKey().isBlank();
+  }
+
+  private static String fingerprint(Item item) {
+    return CreateTaskUseCase.fingerprint(item.title(), item.description(), item.dueAt());
+  }
+
+  private static Result replay(int index, Stored prior, String fingerprint, Item item) {
+    try {
+      return new Result(index, Outcome.REPLAYED, CreateTaskUseCase.replay(prior, fingerprint,
+          item.title(), item.description(), item.dueAt()), null);
+    } catch (UnprocessableEntityException e) {
+      return new Result(index, Outcome.INVALID, null, e.getMessage());
+    } catch (IllegalStateException e) {
+      return new Result(index, Outcome.DUPLICATE, null, e.getMessage());
+    }
+  }
+}
@@ -1,22 +1,29 @@
 package uk.gov.hmcts.tasks.application.usecases;
 
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
+import uk.gov.hmcts.tasks.application.ports.TaskChangesPort;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
 import uk.gov.hmcts.tasks.domain.TaskId;
 
 public class DeleteTaskUseCase {
   private final TaskRepositoryPort repo;
+  private final TaskChangesPort changes;
 
   public DeleteTaskUseCase(TaskRepositoryPort repo) {
+    this(repo, TaskChangesPort.NONE);
+  }
+
+  public DeleteTaskUseCase(TaskRepositoryPort repo, TaskChangesPort changes) {
     this.repo = repo;
+    this.changes = changes;
   }
 
   public void execute(String id) {
     TaskId tid = new TaskId(id);
-    if (repo.findById(tid).isEmpty()) {
+    if (repo.delete(tid) == 0) {
       throw new NotFoundException("Task '" + id + "' not found");
     }
-    repo.delete(tid);
+    changes.changed();
   }
 }
 
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.domain.Task;
+
+import java.util.function.Consumer;
+
+public class ExportTasksUseCase {
+  private final TaskRepositoryPort repo;
+
+  public ExportTasksUseCase(TaskRepositoryPort repo) {
+    this.repo = repo;
+  }
+
+  // Push-style so the caller can write each task out as it is read, whatever the total size
+  public void execute(TaskFilter filter, Consumer<Task> sink) {
+    repo.forEach(ListTasksUseCase.checked(filter), sink);
+  }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.ports.DayStatusCount;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class GetTaskCalendarUseCase {
+  private final TaskRepositoryPort repo;
+
+  public GetTaskCalendarUseCase(TaskRepositoryPort repo) {
+    this.repo = repo;
+  }
+
+  // Two grouped queries regardless of how many tasks the month holds
+  public TaskCalendar execute(YearMonth month, int perDay) {
+    LocalDate from = month.atDay(1);
+    LocalDate to = month.plusMonths(1).atDay(1);
+
+    Map<LocalDate, Map<TaskStatus, Long>> counts = new TreeMap<>();
+    for (DayStatusCount c : repo.countByDueDay(from, to)) {
+      counts.computeIfAbsent(c.day(), d -> zeroCounts()).merge(c.status(), c.count(), Long::sum);
+    }
+    Map<LocalDate, List<Task>> tasks = new TreeMap<>();
+    if (perDay > 0 && !counts.isEmpty()) {
+      for (Task t : repo.findFirstPerDueDay(from, to, perDay)) {
+        LocalDate day = LocalDate.ofInstant(t.dueAt().toInstant(), ZoneOffset.UTC);
+        tasks.computeIfAbsent(day, d -> new ArrayList<>()).add(t);
+      }
+    }
+
+    List<TaskCalendar.Day> days = new ArrayList<>(counts.size());
+    counts.forEach((day, byStatus) -> days
+        .add(new TaskCalendar.Day(day, byStatus, tasks.getOrDefault(day, List.of()))));
+    return new TaskCalendar(month, days);
+  }
+
+  private static Map<TaskStatus, Long> zeroCounts() {
+    Map<TaskStatus, Long> m = new EnumMap<>(TaskStatus.class);
+    for (TaskStatus s : TaskStatus.values()) {
+      m.put(s, 0L);
+    }
+    return m;
+  }
+}
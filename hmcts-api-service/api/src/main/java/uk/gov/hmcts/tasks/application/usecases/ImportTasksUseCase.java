@@ -0,0 +1,114 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.ports.TaskBulkLoadPort;
+import uk.gov.hmcts.tasks.application.ports.TaskChangesPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming import. Rows are pulled one at a time, validated, and written in fixed-size chunks,
+ * so memory is bounded by the chunk size, not the input. Each chunk commits on its own: if the
+ * load fails part-way, the chunks already reported as imported stay imported.
+ */
+public class ImportTasksUseCase {
+  public static final int CHUNK_SIZE = 5000;
+  static final int MAX_REPORTED_ERRORS = 100;
+  // tasks.title / tasks.description column sizes; a longer value would fail the whole chunk
+  static final int MAX_TITLE = 255;
+  static final int MAX_DESCRIPTION = 2000;
+
+  // One input record as read, before validation; 'malformed' is set when it could not be parsed
+  public record Row(long line, String title, String description, String status, String dueAt,
+      String malformed) {
+  }
+
+  public record RowError(long line, String error) {
+  }
+
+  public record Summary(long read, long imported, long rejected, List<RowError> errors) {
+  }
+
+  private final TaskBulkLoadPort loader;
+  private final TaskChangesPort changes;
+
+  public ImportTasksUseCase(TaskBulkLoadPort loader) {
+    this(loader, TaskChangesPort.NONE);
+  }
+
+  public ImportTasksUseCase(TaskBulkLoadPort loader, TaskChangesPort changes) {
+    this.loader = loader;
+    this.changes = changes;
+  }
+
+  public Summary execute(Iterator<Row> rows, Consumer<Summary> progress) {
+    List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+    List<RowError> errors = new ArrayList<>();
+    long read = 0;
+    long imported = 0;
+    long rejected = 0;
+    while (rows.hasNext()) {
+      Row row = rows.next();
+      read++;
+      try {
+        chunk.add(toTask(row));
+      } catch (IllegalArgumentException e) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+          errors.add(new RowError(row.line(), e.getMessage()));
+        }
+      }
+      if (chunk.size() == CHUNK_SIZE) {
+        loader.load(chunk);
+        changes.changed();
+        imported += chunk.size();
+        chunk.clear();
+        progress.accept(new Summary(read, imported, rejected, List.copyOf(errors)));
+      }
+    }
+    if (!chunk.isEmpty()) {
+      loader.load(chunk);
+      changes.changed();
+      imported += chunk.size();
+    }
+    return new Summary(read, imported, rejected, List.copyOf(errors));
+  }
+
+  // Task's constructor is the validator; the parsing around it only turns text into types
+  private static Task toTask(Row row) {
+    if (row.malformed() != null) {
+      throw new IllegalArgumentException(row.malformed());
+    }
+    TaskStatus status;
+    try {
+      status = blank(row.status()) ? TaskStatus.OPEN : TaskStatus.valueOf(row.status().trim());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("invalid status '" + row.status() + "'");
+    }
+    OffsetDateTime dueAt;
+    try {
+      dueAt = blank(row.dueAt()) ? null : OffsetDateTime.parse(row.dueAt().trim());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("invalid dueAt '" + row.dueAt() + "'");
+    }
+    Task t = new Task(TaskId.newId(), row.title(), row.description(), status, dueAt);
+    if (t.title().length() > MAX_TITLE) {
+      throw new IllegalArgumentException("title longer than " + MAX_TITLE);
+    }
+    if (t.description().length() > MAX_DESCRIPTION) {
+      throw new IllegalArgumentException("description longer than " + MAX_DESCRIPTION);
+    }
+    return t;
+  }
+
+  private static boolean blank(String s) {
+    return s == null || s.isBlank();
+  }
+}
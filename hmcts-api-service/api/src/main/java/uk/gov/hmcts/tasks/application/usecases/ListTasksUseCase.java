@@ -1,5 +1,8 @@
 package uk.gov.hmcts.tasks.application.usecases;
 
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
 import uk.gov.hmcts.tasks.application.strategy.TaskListingStrategy;
 import uk.gov.hmcts.tasks.domain.Task;
 
@@ -18,11 +21,36 @@ public class ListTasksUseCase {
     }
   }
 
-  public List<Task> execute(int page, int pageSize, String strategyName) {
+  public List<Task> execute(int page, int pageSize, String strategyName, TaskFilter filter) {
+    return strategy(strategyName).list(checked(filter), page, pageSize);
+  }
+
+  public TaskSlice executeAfter(TaskSeek after, int pageSize, String strategyName,
+      TaskFilter filter) {
+    TaskListingStrategy strat = strategy(strategyName);
+    // one extra row tells us whether a next page exists without a second query
+    List<Task> rows = strat.listAfter(checked(filter), after, pageSize + 1);
+    if (rows.size() <= pageSize) {
+      return new TaskSlice(rows, strat.name(), null);
+    }
+    List<Task> items = rows.subList(0, pageSize);
+    return new TaskSlice(items, strat.name(), TaskSeek.after(items.get(pageSize - 1)));
+  }
+
+  static TaskFilter checked(TaskFilter filter) {
+    if (filter == null) {
+      return TaskFilter.NONE;
+    }
+    if (filter.dueFrom() != null && filter.dueTo() != null
+        && !filter.dueFrom().isBefore(filter.dueTo())) {
+      throw new BadRequestException("due_from must be before due_to");
+    }
+    return filter;
+  }
+
+  private TaskListingStrategy strategy(String strategyName) {
     String key = (strategyName == null || strategyName.isBlank()) ? DEFAULT_SORT : strategyName;
-    TaskListingStrategy strat = strategies.getOrDefault(key, strategies.get(DEFAULT_SORT));
-    return strat.list(page, pageSize);
+    return strategies.getOrDefault(key, strategies.get(DEFAULT_SORT));
   }
 }
 
-
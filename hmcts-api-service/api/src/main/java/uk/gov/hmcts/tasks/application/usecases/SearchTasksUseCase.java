@@ -0,0 +1,26 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSearchPort;
+import uk.gov.hmcts.tasks.domain.Task;
+
+import java.util.List;
+
+public class SearchTasksUseCase {
+  public static final int MAX_QUERY_LENGTH = 200;
+
+  private final TaskSearchPort search;
+
+  public SearchTasksUseCase(TaskSearchPort search) {
+    this.search = search;
+  }
+
+  public List<Task> execute(String query, TaskFilter filter, int page, int pageSize) {
+    String q = query == null ? "" : query.strip();
+    if (q.isEmpty() || q.length() > MAX_QUERY_LENGTH) {
+      throw new BadRequestException("q must be 1 to " + MAX_QUERY_LENGTH + " characters");
+    }
+    return search.search(q, ListTasksUseCase.checked(filter), page, pageSize);
+  }
+}
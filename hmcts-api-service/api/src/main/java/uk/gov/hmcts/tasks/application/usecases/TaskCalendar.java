@@ -0,0 +1,17 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/** Per-day counts for a month; only days with at least one task are present. */
+public record TaskCalendar(YearMonth month, List<Day> days) {
+  public record Day(LocalDate date, Map<TaskStatus, Long> counts, List<Task> tasks) {
+    public long total() {
+      return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import java.util.List;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.domain.Task;
+
+/** One keyset page; {@code next} is null when there is nothing after it. */
+public record TaskSlice(List<Task> items, String strategy, TaskSeek next) {
+}
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.*;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk status change. The state rules are applied to the whole set at once: one SELECT reads the
+ * current statuses, one conditional UPDATE moves every eligible task, and only if that UPDATE
+ * comes up short (a concurrent writer) are the affected ids read again to report them.
+ */
+public class UpdateTaskStatusBatchUseCase {
+  public static final int MAX_ITEMS = 1000;
+
+  public enum Outcome {
+    UPDATED, UNCHANGED, CONFLICT, NOT_FOUND
+  }
+
+  public record Result(String id, Outcome outcome, TaskStatus status) {
+  }
+
+  public record Batch(List<Result> results, boolean hasMore) {
+  }
+
+  private final TaskRepositoryPort repo;
+  private final TaskChangesPort changes;
+
+  public UpdateTaskStatusBatchUseCase(TaskRepositoryPort repo) {
+    this(repo, TaskChangesPort.NONE);
+  }
+
+  public UpdateTaskStatusBatchUseCase(TaskRepositoryPort repo, TaskChangesPort changes) {
+    this.repo = repo;
+    this.changes = changes;
+  }
+
+  public Batch execute(List<String> ids, TaskStatus to) {
+    Set<String> unique = new LinkedHashSet<>(ids);
+    if (unique.isEmpty() || unique.size() > MAX_ITEMS) {
+      throw new BadRequestException("between 1 and " + MAX_ITEMS + " ids per request");
+    }
+    if (unique.contains(null)) {
+      throw new BadRequestException("ids must not contain null");
+    }
+    List<TaskId> tids = unique.stream().map(TaskId::new).toList();
+    return new Batch(apply(tids, repo.findStatuses(tids), to), false);
+  }
+
+  // Transitions up to MAX_ITEMS tasks matching the filter; hasMore means call again for the rest
+  public Batch executeMatching(TaskFilter filter, TaskStatus to) {
+    TaskFilter f = ListTasksUseCase.checked(filter);
+    Map<TaskId, TaskStatus> current = new LinkedHashMap<>();
+    boolean hasMore = false;
+    for (TaskStatus from : Task.predecessorsOf(to)) {
+      if (f.status() != null && f.status() != from) {
+        continue;
+      }
+      int room = MAX_ITEMS - current.size();
+      List<Task> rows = repo.findAll(TaskSortOrder.DUE_DATE,
+          new TaskFilter(from, f.dueFrom(), f.dueTo()), 1, room + 1);
+      hasMore |= rows.size() > room;
+      rows.stream().limit(room).forEach(t -> current.put(t.id(), t.status()));
+    }
+    return new Batch(apply(List.copyOf(current.keySet()), current, to), hasMore);
+  }
+
+  private List<Result> apply(List<TaskId> ids, Map<TaskId, TaskStatus> current, TaskStatus to) {
+    Set<TaskStatus> from = Task.predecessorsOf(to);
+    List<TaskId> eligible = ids.stream().filter(id -> from.contains(current.get(id))).toList();
+    Map<TaskId, TaskStatus> after = new LinkedHashMap<>();
+    int updated = eligible.isEmpty() ? 0 : repo.updateStatusAll(eligible, from, to);
+    if (updated > 0) {
+      changes.changed();
+    }
+    if (updated < eligible.size()) {
+      after.putAll(repo.findStatuses(eligible)); // someone else got to some of them first
+    } else {
+      eligible.forEach(id -> after.put(id, to));
+    }
+
+    List<Result> results = new ArrayList<>(ids.size());
+    for (TaskId id : ids) {
+      TaskStatus before = current.get(id);
+      TaskStatus now = from.contains(before) ? after.get(id) : before;
+      Outcome outcome;
+      if (now == null) {
+        outcome = Outcome.NOT_FOUND;
+      } else if (now != to) {
+        outcome = Outcome.CONFLICT;
+      } else {
+        outcome = before == to ? Outcome.UNCHANGED : Outcome.UPDATED;
+      }
+      results.add(new Result(id.value(), outcome, now));
+    }
+    return results;
+  }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.tasks.application.usecases;
 
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
+import uk.gov.hmcts.tasks.application.ports.TaskChangesPort;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
 import uk.gov.hmcts.tasks.domain.Task;
 import uk.gov.hmcts.tasks.domain.TaskId;
@@ -8,15 +9,35 @@ import uk.gov.hmcts.tasks.domain.TaskStatus;
 
 public class UpdateTaskStatusUseCase {
   private final TaskRepositoryPort repo;
+  private final TaskChangesPort changes;
 
   public UpdateTaskStatusUseCase(TaskRepositoryPort repo) {
+    this(repo, TaskChangesPort.NONE);
+  }
+
+  public UpdateTaskStatusUseCase(TaskRepositoryPort repo, TaskChangesPort changes) {
     this.repo = repo;
+    this.changes = changes;
   }
 
   public Task execute(String id, TaskStatus newStatus) {
-    Task task = repo.findById(new TaskId(id))
+    TaskId tid = new TaskId(id);
+    // The database checks the current status, so concurrent PUTs cannot both win
+    if (repo.updateStatus(tid, Task.predecessorsOf(newStatus), newStatus) == 1) {
+      changes.changed();
+      return find(tid, id);
+    }
+    // Nothing changed: missing (404), disallowed (409 from the state rules), or a no-op
+    Task current = find(tid, id);
+    Task updated = current.updateStatus(newStatus);
+    if (updated.status() != current.status()) {
+      throw new IllegalStateException("Task '" + id + "' was modified concurrently");
+    }
+    return current;
+  }
+
+  private Task find(TaskId tid, String id) {
+    return repo.findById(tid)
         .orElseThrow(() -> new NotFoundException("Task '" + id + "' not found"));
-    Task updated = task.updateStatus(newStatus);
-    return repo.save(updated);
   }
 }
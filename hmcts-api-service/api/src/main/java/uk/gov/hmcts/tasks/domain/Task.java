@@ -2,18 +2,45 @@ package uk.gov.hmcts.tasks.domain;
 
 import uk.gov.hmcts.tasks.domain.state.*;
 import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 public final class Task {
+  private static final Map<TaskStatus, Set<TaskStatus>> PREDECESSORS =
+      new EnumMap<>(TaskStatus.class);
+
+  static {
+    for (TaskStatus to : TaskStatus.values()) {
+      Set<TaskStatus> from = EnumSet.noneOf(TaskStatus.class);
+      for (TaskStatus s : TaskStatus.values()) {
+        if (asState(s).targets().contains(to)) {
+          from.add(s);
+        }
+      }
+      PREDECESSORS.put(to, Collections.unmodifiableSet(from));
+    }
+  }
+
   private final TaskId id;
   private final String title;
   private final String description;
   private final TaskStatus status;
   private final OffsetDateTime dueAt;
+  private final long version;
 
   public Task(TaskId id, String title, String description, TaskStatus status,
       OffsetDateTime dueAt) {
+    this(id, title, description, status, dueAt, 0);
+  }
+
+  // version: the stored row's version (0 until first persisted); the database bumps it on change
+  public Task(TaskId id, String title, String description, TaskStatus status,
+      OffsetDateTime dueAt, long version) {
     if (title == null || title.isBlank())
       throw new IllegalArgumentException("title required");
     this.id = id;
@@ -21,6 +48,7 @@ public final class Task {
     this.description = description == null ? "" : description.trim();
     this.status = status == null ? TaskStatus.OPEN : status;
     this.dueAt = dueAt;
+    this.version = version;
   }
 
   public static Task createNew(String title, String description, OffsetDateTime dueAt) {
@@ -37,7 +65,7 @@ public final class Task {
 
   public Task transition(Function<TaskState, TaskState> op) {
     TaskState newState = op.apply(asState(this.status));
-    return new Task(id, title, description, newState.status(), dueAt);
+    return new Task(id, title, description, newState.status(), dueAt, version);
   }
 
   public Task updateStatus(TaskStatus newStatus) {
@@ -50,6 +78,15 @@ public final class Task {
     throw new IllegalArgumentException("invalid status");
   }
 
+  /**
+   * Statuses a task can be moved out of into {@code target}: the states' transition table,
+   * inverted once. Lets persistence apply a transition as one conditional UPDATE instead of
+   * read-modify-write.
+   */
+  public static Set<TaskStatus> predecessorsOf(TaskStatus target) {
+    return PREDECESSORS.get(target);
+  }
+
   public TaskId id() {
     return id;
   }
@@ -70,6 +107,10 @@ public final class Task {
     return dueAt;
   }
 
+  public long version() {
+    return version;
+  }
+
   @Override
   public boolean equals(Object o) {
     return o instanceof Task t && Objects.equals(id, t.id);
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.tasks.domain.state;
 
+import java.util.EnumSet;
+import java.util.Set;
 import uk.gov.hmcts.tasks.domain.TaskStatus;
 
 public final class OpenState implements TaskState {
@@ -14,4 +16,8 @@ public final class OpenState implements TaskState {
   public TaskStatus status() {
     return TaskStatus.OPEN;
   }
+
+  public Set<TaskStatus> targets() {
+    return EnumSet.of(TaskStatus.IN_PROGRESS);
+  }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.tasks.domain.state;
 
+import java.util.Set;
 import uk.gov.hmcts.tasks.domain.TaskStatus;
 
 public interface TaskState {
@@ -8,4 +9,7 @@ public interface TaskState {
   TaskState complete();
 
   TaskStatus status();
+
+  // The other statuses start()/complete() can move this state to: the transition table
+  Set<TaskStatus> targets();
 }
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.tasks.infrastructure.archive;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import uk.gov.hmcts.tasks.application.usecases.ArchiveDoneTasksUseCase;
+
+public class TaskArchiveJob {
+  private static final Logger log = LoggerFactory.getLogger(TaskArchiveJob.class);
+
+  private final ArchiveDoneTasksUseCase archive;
+  private final Duration after;
+  private final int chunkSize;
+
+  public TaskArchiveJob(ArchiveDoneTasksUseCase archive, Duration after, int chunkSize) {
+    this.archive = archive;
+    this.after = after;
+    this.chunkSize = chunkSize;
+  }
+
+  // Fixed delay: a long run never overlaps the next one
+  @Scheduled(initialDelayString = "${archive.initial-delay:PT1M}",
+      fixedDelayString = "${archive.interval:PT15M}")
+  public void run() {
+    long start = System.nanoTime();
+    int moved = archive.execute(after, chunkSize);
+    if (moved > 0) {
+      log.info("Archived {} DONE tasks idle for more than {} in {} ms", moved, after,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import java.util.List;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.strategy.TaskListingStrategy;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.infrastructure.replica.ReadYourWrites;
+
+/**
+ * Serves offset pages from the ListingPageCache; keyset (cursor) reads go straight through.
+ *
+ * <p>With read replicas, a page read from a lagging replica just after a write would be cached
+ * under the new generation and served until the next write. So pages are only ever loaded from
+ * the primary, and a request pinned by read-your-writes skips the cache altogether: its write may
+ * have gone through another instance, whose bump this cache never saw.
+ */
+public class CachingListingStrategy implements TaskListingStrategy {
+  private final TaskListingStrategy delegate;
+  private final ListingPageCache cache;
+
+  public CachingListingStrategy(TaskListingStrategy delegate, ListingPageCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public List<Task> list(TaskFilter filter, int page, int pageSize) {
+    if (ReadYourWrites.isPinned()) {
+      return delegate.list(filter, page, pageSize);
+    }
+    return cache.get(new ListingPageCache.Key(delegate.name(), filter, page, pageSize),
+        () -> ReadYourWrites.onPrimary(() -> delegate.list(filter, page, pageSize)));
+  }
+
+  @Override
+  public List<Task> listAfter(TaskFilter filter, TaskSeek after, int limit) {
+    return delegate.listAfter(filter, after, limit);
+  }
+
+  @Override
+  public String name() {
+    return delegate.name();
+  }
+}
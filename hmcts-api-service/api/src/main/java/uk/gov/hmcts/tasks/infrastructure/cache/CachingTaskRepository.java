@@ -0,0 +1,152 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import uk.gov.hmcts.tasks.application.ports.DayStatusCount;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Caches findById (task-cache.backend=memory); every other call goes straight to the delegate.
+ * Writes through this port drop the ids they touch, then read the versions they produced from the
+ * primary: those become the local floor (an older copy, e.g. from a lagging replica, is not
+ * cached) and are announced on the invalidation bus. Without a bus (single instance) other
+ * instances, if any, can serve an old task for up to task-cache.ttl after a write.
+ */
+public class CachingTaskRepository implements TaskRepositoryPort {
+  private final TaskRepositoryPort delegate;
+  private final TaskCache cache;
+  private final TaskInvalidationBus bus;
+
+  public CachingTaskRepository(TaskRepositoryPort delegate, TaskCache cache,
+      TaskInvalidationBus bus) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.bus = bus;
+  }
+
+  @Override
+  public Optional<Task> findById(TaskId id) {
+    return cache.get(id, delegate::findById);
+  }
+
+  @Override
+  public int updateStatus(TaskId id, Set<TaskStatus> from, TaskStatus to) {
+    int n;
+    try {
+      n = delegate.updateStatus(id, from, to);
+    } finally {
+      cache.invalidate(id);
+    }
+    if (n > 0) {
+      written(List.of(id));
+    }
+    return n;
+  }
+
+  @Override
+  public int updateStatusAll(Collection<TaskId> ids, Set<TaskStatus> from, TaskStatus to) {
+    int n;
+    try {
+      n = delegate.updateStatusAll(ids, from, to);
+    } finally {
+      ids.forEach(cache::invalidate);
+    }
+    if (n > 0) {
+      written(ids);
+    }
+    return n;
+  }
+
+  @Override
+  public int delete(TaskId id) {
+    int n;
+    try {
+      n = delegate.delete(id);
+    } finally {
+      cache.invalidate(id);
+    }
+    if (n > 0) {
+      cache.written(id, TaskInvalidationBus.DELETED);
+      bus.publish(Map.of(id, TaskInvalidationBus.DELETED));
+    }
+    return n;
+  }
+
+  // One version lookup (on the primary) for the whole set
+  private void written(Collection<TaskId> ids) {
+    Map<TaskId, Long> versions = delegate.findVersions(ids);
+    versions.forEach(cache::written);
+    bus.publish(versions);
+  }
+
+  // New ids are never cached (misses are not stored), so inserts need no invalidation.
+  // Archiving moves rows without changing them; findById still finds them.
+
+  @Override
+  public Task insert(Task task) {
+    return delegate.insert(task);
+  }
+
+  @Override
+  public List<Task> insertAll(List<Task> tasks) {
+    return delegate.insertAll(tasks);
+  }
+
+  @Override
+  public int archiveDone(OffsetDateTime before, int limit) {
+    return delegate.archiveDone(before, limit);
+  }
+
+  @Override
+  public List<Task> findAll(TaskSortOrder order, TaskFilter filter, int page, int pageSize) {
+    return delegate.findAll(order, filter, page, pageSize);
+  }
+
+  @Override
+  public List<Task> findAfter(TaskSortOrder order, TaskFilter filter, TaskSeek after,
+      int limit) {
+    return delegate.findAfter(order, filter, after, limit);
+  }
+
+  @Override
+  public long count(TaskFilter filter) {
+    return delegate.count(filter);
+  }
+
+  @Override
+  public void forEach(TaskFilter filter, Consumer<Task> sink) {
+    delegate.forEach(filter, sink);
+  }
+
+  @Override
+  public List<DayStatusCount> countByDueDay(LocalDate from, LocalDate to) {
+    return delegate.countByDueDay(from, to);
+  }
+
+  @Override
+  public List<Task> findFirstPerDueDay(LocalDate from, LocalDate to, int perDay) {
+    return delegate.findFirstPerDueDay(from, to, perDay);
+  }
+
+  @Override
+  public Map<TaskId, Long> findVersions(Collection<TaskId> ids) {
+    return delegate.findVersions(ids);
+  }
+
+  @Override
+  public Map<TaskId, TaskStatus> findStatuses(Collection<TaskId> ids) {
+    return delegate.findStatuses(ids);
+  }
+}
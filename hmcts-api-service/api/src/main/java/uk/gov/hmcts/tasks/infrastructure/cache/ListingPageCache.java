@@ -0,0 +1,101 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.domain.Task;
+
+/**
+ * Bounded LRU of listing pages keyed by (sort, filters, page, page size). Every entry is tagged
+ * with the write generation current when its query started; any write through the use cases
+ * bumps the generation, so a page is only ever served if nothing has been written since it was
+ * read. Entries from older generations are dropped lazily, when looked up or pushed out by size.
+ *
+ * <p>The generation is per instance. Writes made on other instances show up once the entry
+ * expires (listing.cache.ttl).
+ */
+public class ListingPageCache {
+  public record Key(String sort, TaskFilter filter, int page, int pageSize) {
+  }
+
+  private record Entry(long generation, List<Task> rows, long expiresAt) {
+  }
+
+  private final AtomicLong generation = new AtomicLong();
+  private final Map<Key, Entry> entries;
+  private final long ttlMillis;
+  private final Clock clock;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter sizeEvictions;
+  private final Counter expiredEvictions;
+  private final Counter writeEvictions;
+
+  public ListingPageCache(int maxEntries, Duration ttl, Clock clock, MeterRegistry registry) {
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.hits = registry.counter("tasks.listing.cache.requests", "result", "hit");
+    this.misses = registry.counter("tasks.listing.cache.requests", "result", "miss");
+    this.sizeEvictions = registry.counter("tasks.listing.cache.evictions", "cause", "size");
+    this.expiredEvictions = registry.counter("tasks.listing.cache.evictions", "cause", "expired");
+    this.writeEvictions = registry.counter("tasks.listing.cache.evictions", "cause", "write");
+    // Access-ordered, so the eldest entry is the least recently used. One lock is enough: the
+    // hot keys are a handful of landing pages, and a hit holds it for a single lookup.
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        if (size() <= maxEntries) {
+          return false;
+        }
+        sizeEvictions.increment();
+        return true;
+      }
+    };
+    Gauge.builder("tasks.listing.cache.size", this, ListingPageCache::size).register(registry);
+  }
+
+  public List<Task> get(Key key, Supplier<List<Task>> loader) {
+    long gen = generation.get();
+    long now = clock.millis();
+    synchronized (entries) {
+      Entry e = entries.get(key);
+      if (e != null && e.generation() == gen && e.expiresAt() > now) {
+        hits.increment();
+        return e.rows();
+      }
+      if (e != null) {
+        entries.remove(key);
+        (e.generation() != gen ? writeEvictions : expiredEvictions).increment();
+      }
+    }
+    misses.increment();
+    List<Task> rows = List.copyOf(loader.get());
+    synchronized (entries) {
+      // A write that landed while the query ran may or may not be in 'rows'; don't keep them
+      if (generation.get() == gen) {
+        entries.put(key, new Entry(gen, rows, clock.millis() + ttlMillis));
+      }
+    }
+    return rows;
+  }
+
+  // Called after a write has committed, never before: a page read in between would otherwise be
+  // tagged with the new generation while missing the write
+  public void bump() {
+    generation.incrementAndGet();
+  }
+
+  int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+}
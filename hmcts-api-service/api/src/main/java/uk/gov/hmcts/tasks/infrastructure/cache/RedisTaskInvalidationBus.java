@@ -0,0 +1,127 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+/**
+ * Invalidation over Redis pub/sub (task-cache.invalidation=redis). Each message is
+ * "{node} {id}:{version} ...", so instances skip their own messages. A daemon thread holds the
+ * subscription and reconnects if it drops. Messages sent while it was down are lost, so the
+ * whole local cache is cleared on every (re)subscribe.
+ *
+ * <p>Publishing is best effort: the write has already committed, so a Redis failure is logged
+ * and the other instances converge when their entries expire (task-cache.ttl).
+ */
+public class RedisTaskInvalidationBus implements TaskInvalidationBus, AutoCloseable {
+  static final String CHANNEL = "tasks:invalidate";
+  static final int IDS_PER_MESSAGE = 100;
+  private static final long RECONNECT_DELAY_MS = 1000;
+  private static final Logger log = LoggerFactory.getLogger(RedisTaskInvalidationBus.class);
+
+  private final String node = UUID.randomUUID().toString();
+  private final URI uri;
+  private final JedisPooled publisher;
+  private final TaskCache cache;
+  private final Thread subscriber;
+  private volatile boolean running = true;
+  private volatile JedisPubSub subscription;
+
+  public RedisTaskInvalidationBus(String redisUrl, TaskCache cache) {
+    this.uri = URI.create(redisUrl);
+    this.publisher = new JedisPooled(redisUrl);
+    this.cache = cache;
+    this.subscriber = new Thread(this::listen, "task-cache-invalidation");
+    this.subscriber.setDaemon(true);
+    this.subscriber.start();
+  }
+
+  @Override
+  public void publish(Map<TaskId, Long> versions) {
+    List<String> messages = new ArrayList<>();
+    StringBuilder sb = new StringBuilder(node);
+    int n = 0;
+    for (Map.Entry<TaskId, Long> e : versions.entrySet()) {
+      sb.append(' ').append(e.getKey().value()).append(':').append(e.getValue());
+      if (++n == IDS_PER_MESSAGE) {
+        messages.add(sb.toString());
+        sb = new StringBuilder(node);
+        n = 0;
+      }
+    }
+    if (n > 0) {
+      messages.add(sb.toString());
+    }
+    try {
+      messages.forEach(m -> publisher.publish(CHANNEL, m));
+    } catch (JedisException e) {
+      log.warn("Could not publish task cache invalidation for {} tasks", versions.size(), e);
+    }
+  }
+
+  // Applies a message from another instance; own and malformed messages are ignored
+  void onMessage(String message) {
+    String[] parts = message.split(" ");
+    if (parts[0].equals(node)) {
+      return;
+    }
+    for (int i = 1; i < parts.length; i++) {
+      int colon = parts[i].lastIndexOf(':');
+      try {
+        cache.invalidate(new TaskId(parts[i].substring(0, colon)),
+            Long.parseLong(parts[i].substring(colon + 1)));
+      } catch (RuntimeException e) {
+        log.warn("Ignoring malformed task cache invalidation '{}'", parts[i]);
+      }
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Jedis jedis = new Jedis(uri)) {
+        JedisPubSub s = new JedisPubSub() {
+          @Override
+          public void onSubscribe(String channel, int subscribedChannels) {
+            cache.invalidateAll(); // anything published while we were away is lost
+          }
+
+          @Override
+          public void onMessage(String channel, String message) {
+            RedisTaskInvalidationBus.this.onMessage(message);
+          }
+        };
+        subscription = s;
+        jedis.subscribe(s, CHANNEL); // blocks until unsubscribed or the connection drops
+      } catch (JedisException e) {
+        if (running) {
+          log.warn("Task cache invalidation subscription lost; retrying", e);
+          try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+          } catch (InterruptedException ie) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    JedisPubSub s = subscription;
+    if (s != null && s.isSubscribed()) {
+      s.unsubscribe();
+    }
+    subscriber.interrupt();
+    publisher.close();
+  }
+}
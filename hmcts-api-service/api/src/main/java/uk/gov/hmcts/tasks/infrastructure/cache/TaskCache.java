@@ -0,0 +1,180 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+/**
+ * Bounded read-through cache of tasks by id. Split into independently locked LRU segments so
+ * lookups for different ids rarely contend; each segment holds maxSize / SEGMENTS entries and
+ * drops entries older than the TTL on access.
+ *
+ * <p>A load that races with an invalidation of its segment is not cached: the database read may
+ * predate the write, and caching it would serve the old task until the TTL ran out.
+ *
+ * <p>Writes, local or announced by other instances, carry the row version they produced. The
+ * highest version seen per id is remembered (bounded, like the entries), so a message that
+ * arrives after a newer copy is already cached is ignored, and a copy older than a known write
+ * (say from a lagging replica) is never cached.
+ */
+public class TaskCache {
+  static final int SEGMENTS = 16;
+
+  private record Entry(Task task, long expiresAt) {
+  }
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+  private final long ttlMillis;
+  private final Clock clock;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter sizeEvictions;
+  private final Counter expiredEvictions;
+  private final Counter remoteApplied;
+  private final Counter remoteIgnored;
+
+  public TaskCache(int maxSize, Duration ttl, Clock clock, MeterRegistry registry) {
+    int perSegment = Math.max(1, maxSize / SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(perSegment);
+    }
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.hits = registry.counter("tasks.cache.requests", "result", "hit");
+    this.misses = registry.counter("tasks.cache.requests", "result", "miss");
+    this.sizeEvictions = registry.counter("tasks.cache.evictions", "cause", "size");
+    this.expiredEvictions = registry.counter("tasks.cache.evictions", "cause", "expired");
+    this.remoteApplied = registry.counter("tasks.cache.invalidations", "result", "applied");
+    this.remoteIgnored = registry.counter("tasks.cache.invalidations", "result", "ignored");
+    Gauge.builder("tasks.cache.size", this, TaskCache::size).register(registry);
+  }
+
+  // Missing tasks are not cached, so creating one never needs an invalidation
+  public Optional<Task> get(TaskId id, Function<TaskId, Optional<Task>> loader) {
+    Segment s = segment(id);
+    long now = clock.millis();
+    long generation;
+    synchronized (s) {
+      Entry e = s.get(id);
+      if (e != null && e.expiresAt() > now) {
+        hits.increment();
+        return Optional.of(e.task());
+      }
+      if (e != null) {
+        s.remove(id);
+        expiredEvictions.increment();
+      }
+      generation = s.generation;
+    }
+    misses.increment();
+    Optional<Task> loaded = loader.apply(id);
+    loaded.ifPresent(t -> {
+      synchronized (s) {
+        if (s.generation == generation && t.version() >= s.floor(id)) {
+          s.put(id, new Entry(t, clock.millis() + ttlMillis));
+        }
+      }
+    });
+    return loaded;
+  }
+
+  public void invalidate(TaskId id) {
+    Segment s = segment(id);
+    synchronized (s) {
+      s.generation++;
+      s.remove(id);
+    }
+  }
+
+  // From another instance: the row is now at 'version' or later. Returns false when ignored.
+  public boolean invalidate(TaskId id, long version) {
+    boolean applied = floor(id, version);
+    (applied ? remoteApplied : remoteIgnored).increment();
+    return applied;
+  }
+
+  // A write through this instance produced 'version': same floor, so a copy loaded from a replica
+  // that has not caught up yet is never cached
+  public void written(TaskId id, long version) {
+    floor(id, version);
+  }
+
+  private boolean floor(TaskId id, long version) {
+    Segment s = segment(id);
+    synchronized (s) {
+      s.floors.merge(id, version, Math::max);
+      Entry e = s.get(id);
+      if (e != null && e.task().version() >= version) {
+        return false; // out of order: the cached copy is already that new
+      }
+      s.generation++;
+      s.remove(id);
+      return true;
+    }
+  }
+
+  public void invalidateAll() {
+    for (Segment s : segments) {
+      synchronized (s) {
+        s.generation++;
+        s.clear();
+        s.floors.clear();
+      }
+    }
+  }
+
+  int size() {
+    int n = 0;
+    for (Segment s : segments) {
+      synchronized (s) {
+        n += s.size();
+      }
+    }
+    return n;
+  }
+
+  private Segment segment(TaskId id) {
+    int h = id.hashCode();
+    return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+  }
+
+  // Access-ordered, so the eldest entry is the least recently used
+  private final class Segment extends LinkedHashMap<TaskId, Entry> {
+    private final int maxSize;
+    long generation; // bumped by every invalidation
+    // Highest version announced per id; oldest announcements are forgotten first
+    final Map<TaskId, Long> floors;
+
+    Segment(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+      this.floors = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TaskId, Long> eldest) {
+          return size() > maxSize;
+        }
+      };
+    }
+
+    long floor(TaskId id) {
+      return floors.getOrDefault(id, Long.MIN_VALUE);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<TaskId, Entry> eldest) {
+      if (size() <= maxSize) {
+        return false;
+      }
+      sizeEvictions.increment();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import java.util.Map;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+// Tells the other instances' caches which tasks changed, and the version each change produced
+public interface TaskInvalidationBus {
+  // Deleted tasks: no later version can exist
+  long DELETED = Long.MAX_VALUE;
+
+  // Single-instance deployments: nothing to tell
+  TaskInvalidationBus NONE = versions -> {
+  };
+
+  void publish(Map<TaskId, Long> versions);
+}
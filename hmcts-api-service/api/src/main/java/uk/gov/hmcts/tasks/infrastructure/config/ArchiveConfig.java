@@ -0,0 +1,25 @@
+package uk.gov.hmcts.tasks.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import uk.gov.hmcts.tasks.application.usecases.ArchiveDoneTasksUseCase;
+import uk.gov.hmcts.tasks.infrastructure.archive.TaskArchiveJob;
+
+// Off unless archive.enabled=true: archived tasks drop out of listings, export, calendar and
+// search, so operators opt in
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true")
+public class ArchiveConfig {
+
+  @Bean
+  TaskArchiveJob taskArchiveJob(ArchiveDoneTasksUseCase archive,
+      @Value("${archive.after:30d}") Duration after,
+      @Value("${archive.chunk-size:500}") int chunkSize) {
+    return new TaskArchiveJob(archive, after, chunkSize);
+  }
+}
@@ -1,62 +1,243 @@
 package uk.gov.hmcts.tasks.infrastructure.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import uk.gov.hmcts.tasks.application.ports.*;
 import uk.gov.hmcts.tasks.application.strategy.*;
 import uk.gov.hmcts.tasks.application.usecases.*;
+import uk.gov.hmcts.tasks.infrastructure.cache.*;
 import uk.gov.hmcts.tasks.infrastructure.idempotency.*;
 import uk.gov.hmcts.tasks.infrastructure.persistence.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.DatabaseMetaData;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class BeanConfig {
   @Bean
-  TaskRepositoryPort taskRepositoryPort(TaskJpaRepository repo) {
-    return new TaskRepositoryAdapter(repo);
+  TaskRepositoryPort taskRepositoryPort(TaskJpaRepository repo,
+      TaskArchiveJpaRepository archive) {
+    return new TaskRepositoryAdapter(repo, archive);
+  }
+
+  // Task cache selection:
+  // - default (absent or "none"): every lookup reads the database
+  // - "memory": bounded per-instance cache in front of findById, used wherever the port is
+  @Bean
+  @ConditionalOnProperty(name = "task-cache.backend", havingValue = "memory")
+  TaskCache taskCache(@Value("${task-cache.max-size:10000}") int maxSize,
+      @Value("${task-cache.ttl:60s}") Duration ttl, MeterRegistry registry) {
+    return new TaskCache(maxSize, ttl, Clock.systemUTC(), registry);
+  }
+
+  // With several instances, task-cache.invalidation=redis tells the others about every write
+  // (declared after taskCache so the bean condition sees it)
+  @Bean
+  @ConditionalOnProperty(name = "task-cache.invalidation", havingValue = "redis")
+  @ConditionalOnBean(TaskCache.class)
+  RedisTaskInvalidationBus redisTaskInvalidationBus(TaskCache cache,
+      @Value("${redis.url:redis://localhost:6379}") String redisUrl) {
+    return new RedisTaskInvalidationBus(redisUrl, cache);
+  }
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(name = "task-cache.backend", havingValue = "memory")
+  TaskRepositoryPort cachingTaskRepositoryPort(
+      @Qualifier("taskRepositoryPort") TaskRepositoryPort repo, TaskCache cache,
+      ObjectProvider<TaskInvalidationBus> bus) {
+    return new CachingTaskRepository(repo, cache,
+        bus.getIfAvailable(() -> TaskInvalidationBus.NONE));
+  }
+
+  // COPY on Postgres; plain JDBC batches anywhere else (H2 quickstart and tests)
+  @Bean
+  TaskBulkLoadPort taskBulkLoadPort(DataSource ds, JdbcTemplate jdbc)
+      throws MetaDataAccessException {
+    String product = JdbcUtils.extractDatabaseMetaData(ds,
+        DatabaseMetaData::getDatabaseProductName);
+    return "PostgreSQL".equals(product) ? new PostgresCopyTaskLoader(ds)
+        : new JdbcBatchTaskLoader(jdbc);
+  }
+
+  // tsvector + trigram indexes on Postgres (V10); LIKE scan elsewhere
+  @Bean
+  TaskSearchPort taskSearchPort(DataSource ds, NamedParameterJdbcTemplate jdbc)
+      throws MetaDataAccessException {
+    String product = JdbcUtils.extractDatabaseMetaData(ds,
+        DatabaseMetaData::getDatabaseProductName);
+    return "PostgreSQL".equals(product) ? new PostgresTaskSearch(jdbc) : new LikeTaskSearch(jdbc);
+  }
+
+  // reltuples on Postgres; no statistics to read elsewhere, so estimates fall back to COUNT
+  @Bean
+  TaskCountEstimatePort taskCountEstimatePort(DataSource ds, JdbcTemplate jdbc)
+      throws MetaDataAccessException {
+    String product = JdbcUtils.extractDatabaseMetaData(ds,
+        DatabaseMetaData::getDatabaseProductName);
+    return "PostgreSQL".equals(product) ? new PostgresTaskCountEstimator(jdbc)
+        : OptionalLong::empty;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "listing.count.strategy", havingValue = "cached")
+  TaskCountStrategy cachedCountStrategy(TaskRepositoryPort r,
+      @Value("${listing.count.cache-ttl:30s}") Duration ttl,
+      @Qualifier("applicationTaskExecutor") Executor executor) {
+    return new CachedCountStrategy(new ExactCountStrategy(r), ttl, Clock.systemUTC(), executor);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "listing.count.strategy", havingValue = "estimate")
+  TaskCountStrategy estimatedCountStrategy(TaskRepositoryPort r, TaskCountEstimatePort e) {
+    return new EstimatedCountStrategy(e, new ExactCountStrategy(r));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(TaskCountStrategy.class)
+  TaskCountStrategy exactCountStrategy(TaskRepositoryPort r) {
+    return new ExactCountStrategy(r);
+  }
+
+  // Listing cache (listing.cache.enabled=true): offset pages served from memory until the next
+  // write through the use cases, or listing.cache.ttl for writes made on other instances
+  @Bean
+  @ConditionalOnProperty(name = "listing.cache.enabled", havingValue = "true")
+  ListingPageCache listingPageCache(@Value("${listing.cache.max-entries:1000}") int maxEntries,
+      @Value("${listing.cache.ttl:10s}") Duration ttl, MeterRegistry registry) {
+    return new ListingPageCache(maxEntries, ttl, Clock.systemUTC(), registry);
+  }
+
+  @Bean
+  TaskChangesPort taskChangesPort(ObjectProvider<ListingPageCache> cache) {
+    ListingPageCache c = cache.getIfAvailable();
+    return c == null ? TaskChangesPort.NONE : c::bump;
   }
 
   @Bean
   @ConditionalOnProperty(name = "idempotency.backend", havingValue = "redis")
   IdempotencyStorePort redisIdempotencyStore(
-      @Value("${redis.url:redis://localhost:6379}") String redisUrl) {
-    return new IdempotencyRedisAdapter(redisUrl);
+      @Value("${redis.url:redis://localhost:6379}") String redisUrl,
+      @Value("${idempotency.ttl:24h}") Duration ttl) {
+    return new IdempotencyRedisAdapter(redisUrl, ttl);
   }
 
+  // No I/O, but keys are per instance: for single-node deployments
+  @Bean
+  @ConditionalOnProperty(name = "idempotency.backend", havingValue = "memory")
+  IdempotencyStorePort memoryIdempotencyStore(
+      @Value("${idempotency.memory.max-entries:100000}") int maxEntries,
+      @Value("${idempotency.ttl:24h}") Duration ttl, MeterRegistry registry) {
+    return new IdempotencyMemoryStore(maxEntries, ttl, Clock.systemUTC(), registry);
+  }
+
+  // Concrete type, so IdempotencySweepConfig can hand it to the sweeper. Claims are INSERT ...
+  // ON CONFLICT on Postgres; MERGE elsewhere
   @Bean
   @ConditionalOnMissingBean(IdempotencyStorePort.class)
-  IdempotencyStorePort dbIdempotencyStore(IdempotencyRepo repo) {
-    return new IdempotencyStoreAdapter(repo);
+  IdempotencyStoreAdapter dbIdempotencyStore(IdempotencyRepo repo, DataSource ds,
+      NamedParameterJdbcTemplate jdbc, PlatformTransactionManager txManager,
+      @Value("${idempotency.ttl:24h}") Duration ttl) throws MetaDataAccessException {
+    String product = JdbcUtils.extractDatabaseMetaData(ds,
+        DatabaseMetaData::getDatabaseProductName);
+    IdempotencyStoreAdapter.Dialect dialect = "PostgreSQL".equals(product)
+        ? IdempotencyStoreAdapter.Dialect.POSTGRES : IdempotencyStoreAdapter.Dialect.MERGE;
+    return new IdempotencyStoreAdapter(repo, jdbc, new TransactionTemplate(txManager), dialect,
+        ttl, Clock.systemUTC());
+  }
+
+  @Bean
+  CreateTaskUseCase createTaskUseCase(TaskRepositoryPort r, IdempotencyStorePort i,
+      TaskChangesPort c) {
+    return new CreateTaskUseCase(r, i, c);
+  }
+
+  @Bean
+  CreateTasksBatchUseCase createTasksBatchUseCase(TaskRepositoryPort r, IdempotencyStorePort i,
+      TaskChangesPort c) {
+    return new CreateTasksBatchUseCase(r, i, c);
   }
 
   @Bean
-  CreateTaskUseCase createTaskUseCase(TaskRepositoryPort r, IdempotencyStorePort i) {
-    return new CreateTaskUseCase(r, i);
+  UpdateTaskStatusUseCase updateTaskStatusUseCase(TaskRepositoryPort r, TaskChangesPort c) {
+    return new UpdateTaskStatusUseCase(r, c);
   }
 
   @Bean
-  UpdateTaskStatusUseCase updateTaskStatusUseCase(TaskRepositoryPort r) {
-    return new UpdateTaskStatusUseCase(r);
+  UpdateTaskStatusBatchUseCase updateTaskStatusBatchUseCase(TaskRepositoryPort r,
+      TaskChangesPort c) {
+    return new UpdateTaskStatusBatchUseCase(r, c);
   }
 
   @Bean
-  ListTasksUseCase listTasksUseCase(TaskRepositoryPort r) {
+  ListTasksUseCase listTasksUseCase(TaskRepositoryPort r,
+      ObjectProvider<ListingPageCache> cache) {
     TaskListingStrategy due = new DueDateListingStrategy(r);
     TaskListingStrategy status = new StatusListingStrategy(r);
+    ListingPageCache c = cache.getIfAvailable();
+    if (c != null) {
+      due = new CachingListingStrategy(due, c);
+      status = new CachingListingStrategy(status, c);
+    }
     return new ListTasksUseCase(Map.of(due.name(), due, status.name(), status));
   }
 
+  @Bean
+  CountTasksUseCase countTasksUseCase(TaskCountStrategy s) {
+    return new CountTasksUseCase(s);
+  }
+
+  @Bean
+  SearchTasksUseCase searchTasksUseCase(TaskSearchPort s) {
+    return new SearchTasksUseCase(s);
+  }
+
   @Bean
   GetTaskUseCase getTaskUseCase(TaskRepositoryPort r) {
     return new GetTaskUseCase(r);
   }
 
   @Bean
-  DeleteTaskUseCase deleteTaskUseCase(TaskRepositoryPort r) {
-    return new DeleteTaskUseCase(r);
+  ExportTasksUseCase exportTasksUseCase(TaskRepositoryPort r) {
+    return new ExportTasksUseCase(r);
+  }
+
+  @Bean
+  ImportTasksUseCase importTasksUseCase(TaskBulkLoadPort l, TaskChangesPort c) {
+    return new ImportTasksUseCase(l, c);
+  }
+
+  @Bean
+  GetTaskCalendarUseCase getTaskCalendarUseCase(TaskRepositoryPort r) {
+    return new GetTaskCalendarUseCase(r);
+  }
+
+  @Bean
+  ArchiveDoneTasksUseCase archiveDoneTasksUseCase(TaskRepositoryPort r, TaskChangesPort c) {
+    return new ArchiveDoneTasksUseCase(r, Clock.systemUTC(), c);
+  }
+
+  @Bean
+  DeleteTaskUseCase deleteTaskUseCase(TaskRepositoryPort r, TaskChangesPort c) {
+    return new DeleteTaskUseCase(r, c);
   }
 }
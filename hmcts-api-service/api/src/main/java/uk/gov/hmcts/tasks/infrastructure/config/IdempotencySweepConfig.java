@@ -0,0 +1,22 @@
+package uk.gov.hmcts.tasks.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import uk.gov.hmcts.tasks.infrastructure.idempotency.IdempotencyStoreAdapter;
+import uk.gov.hmcts.tasks.infrastructure.idempotency.IdempotencySweepJob;
+
+// Only the JPA store needs sweeping; Redis expires its keys itself
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "idempotency.backend", havingValue = "jpa", matchIfMissing = true)
+public class IdempotencySweepConfig {
+
+  @Bean
+  IdempotencySweepJob idempotencySweepJob(IdempotencyStoreAdapter store,
+      @Value("${idempotency.sweep.batch-size:500}") int batchSize) {
+    return new IdempotencySweepJob(store, batchSize);
+  }
+}
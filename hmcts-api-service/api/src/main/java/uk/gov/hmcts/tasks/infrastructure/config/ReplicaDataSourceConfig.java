@@ -0,0 +1,68 @@
+package uk.gov.hmcts.tasks.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.hmcts.tasks.infrastructure.replica.ReadYourWritesFilter;
+import uk.gov.hmcts.tasks.infrastructure.replica.ReplicaRoutingDataSource;
+
+/**
+ * Optional read replicas, enabled by setting replicas.urls. Connections are handed out lazily and
+ * routed on the transaction's read-only flag: read-only transactions (the list/get/calendar/export
+ * reads) go to a replica, everything else - all writes, Flyway - stays on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replicas.urls")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  HikariDataSource primaryDataSource(DataSourceProperties props) {
+    HikariDataSource ds = props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    ds.setPoolName("primary");
+    return ds;
+  }
+
+  @Bean
+  ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+      DataSourceProperties props, @Value("${replicas.urls}") List<String> urls,
+      @Value("${replicas.username:${spring.datasource.username:}}") String username,
+      @Value("${replicas.password:${spring.datasource.password:}}") String password) {
+    List<DataSource> replicas = new ArrayList<>();
+    for (String url : urls) {
+      HikariDataSource r = new HikariDataSource();
+      r.setJdbcUrl(url);
+      r.setUsername(username);
+      r.setPassword(password);
+      r.setDriverClassName(props.determineDriverClassName());
+      r.setReadOnly(true);
+      r.setPoolName("replica-" + replicas.size());
+      replicas.add(r);
+    }
+    return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+  }
+
+  // The one DataSource JPA, Flyway and JdbcTemplate see
+  @Bean
+  @Primary
+  DataSource dataSource(HikariDataSource primaryDataSource,
+      ReplicaRoutingDataSource replicaDataSource) {
+    LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+    proxy.setReadOnlyDataSource(replicaDataSource);
+    return proxy;
+  }
+
+  @Bean
+  ReadYourWritesFilter readYourWritesFilter(
+      @Value("${replicas.read-your-writes-window:5s}") Duration window) {
+    return new ReadYourWritesFilter(window);
+  }
+}
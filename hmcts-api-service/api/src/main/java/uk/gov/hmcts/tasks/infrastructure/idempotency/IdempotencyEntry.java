@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "idempotency_entry")
@@ -14,4 +15,12 @@ public class IdempotencyEntry {
 
     @Column(name = "fingerprint", nullable = false, length = 255)
     public String fingerprint;
+
+    // Set once the claiming request has created its task; null while it is in flight
+    @Column(name = "task_id", length = 36)
+    public String taskId;
+
+    // Claim time; the key expires idempotency.ttl later
+    @Column(name = "created_at", nullable = false)
+    public OffsetDateTime createdAt;
 }
@@ -0,0 +1,134 @@
+package uk.gov.hmcts.tasks.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+/**
+ * Per-instance idempotency keys, no I/O. Split into independently locked segments, as in
+ * TaskCache, so claims for different keys rarely contend.
+ *
+ * <p>Each segment is kept in claim order. Every key lives for the same ttl, so the eldest entry
+ * is always the next to expire: a claim first drops expired entries from the head of its segment,
+ * and when a segment is full it is the oldest claim that goes. Nothing needs sweeping.
+ *
+ * <p>Keys are only known to the instance that saw them. With several instances behind a load
+ * balancer, a retry that lands elsewhere is not recognised, so use jpa or redis there.
+ */
+public class IdempotencyMemoryStore implements IdempotencyStorePort {
+  static final int SEGMENTS = 16;
+
+  private record Entry(String fingerprint, TaskId taskId, long expiresAt) {
+  }
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+  private final long ttlMillis;
+  private final Clock clock;
+  private final Counter claimed;
+  private final Counter held;
+  private final Counter sizeEvictions;
+  private final Counter expiredEvictions;
+
+  public IdempotencyMemoryStore(int maxEntries, Duration ttl, Clock clock,
+      MeterRegistry registry) {
+    int perSegment = Math.max(1, maxEntries / SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(perSegment);
+    }
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.claimed = registry.counter("idempotency.memory.claims", "result", "claimed");
+    this.held = registry.counter("idempotency.memory.claims", "result", "held");
+    this.sizeEvictions = registry.counter("idempotency.memory.evictions", "cause", "size");
+    this.expiredEvictions = registry.counter("idempotency.memory.evictions", "cause", "expired");
+    Gauge.builder("idempotency.memory.size", this, IdempotencyMemoryStore::size)
+        .register(registry);
+  }
+
+  @Override
+  public Optional<Stored> claim(String key, String fingerprint) {
+    Segment s = segment(key);
+    long now = clock.millis();
+    synchronized (s) {
+      s.expire(now);
+      Entry e = s.get(key);
+      if (e != null) {
+        held.increment();
+        return Optional.of(new Stored(e.fingerprint(), e.taskId()));
+      }
+      s.put(key, new Entry(fingerprint, null, now + ttlMillis));
+    }
+    claimed.increment();
+    return Optional.empty();
+  }
+
+  // Same expiry as the claim, and the entry keeps its place in the segment
+  @Override
+  public void complete(String key, String fingerprint, TaskId taskId) {
+    Segment s = segment(key);
+    synchronized (s) {
+      Entry e = s.get(key);
+      if (e != null && e.fingerprint().equals(fingerprint)) {
+        s.put(key, new Entry(fingerprint, taskId, e.expiresAt()));
+      }
+    }
+  }
+
+  @Override
+  public void release(String key) {
+    Segment s = segment(key);
+    synchronized (s) {
+      s.remove(key);
+    }
+  }
+
+  int size() {
+    int n = 0;
+    for (Segment s : segments) {
+      synchronized (s) {
+        n += s.size();
+      }
+    }
+    return n;
+  }
+
+  private Segment segment(String key) {
+    int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+  }
+
+  // Insertion-ordered: an expired key is removed before it is claimed again, so re-claims go to
+  // the tail and the head is always the earliest expiry
+  private final class Segment extends LinkedHashMap<String, Entry> {
+    private final int maxSize;
+
+    Segment(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    void expire(long now) {
+      Iterator<Entry> it = values().iterator();
+      while (it.hasNext() && it.next().expiresAt() <= now) {
+        it.remove();
+        expiredEvictions.increment();
+      }
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+      if (size() <= maxSize) {
+        return false;
+      }
+      sizeEvictions.increment();
+      return true;
+    }
+  }
+}
@@ -1,18 +1,49 @@
 package uk.gov.hmcts.tasks.infrastructure.idempotency;
 
+import java.time.Duration;
+import java.util.Optional;
 import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.params.SetParams;
 import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort;
+import uk.gov.hmcts.tasks.domain.TaskId;
 
+// One string per key: "{fingerprint}" while the claiming request runs, then
+// "{fingerprint} {taskId}" once it has created its task. Redis expires keys 'ttl' after the
+// claim (SET NX EX, one atomic command), so nothing needs sweeping.
 public class IdempotencyRedisAdapter implements IdempotencyStorePort {
   private final JedisPooled jedis;
+  private final long ttlSeconds;
 
-  public IdempotencyRedisAdapter(String redisUrl) {
+  public IdempotencyRedisAdapter(String redisUrl, Duration ttl) {
     this.jedis = new JedisPooled(redisUrl);
+    this.ttlSeconds = Math.max(1, ttl.toSeconds());
   }
 
   @Override
-  public boolean tryStore(String key, String fingerprint) {
-    Long set = jedis.setnx(key, fingerprint);
-    return set != null && set == 1L;
+  public Optional<Stored> claim(String key, String fingerprint) {
+    // A key released or expired between the failed SET and the GET is claimed on the next pass
+    for (int attempt = 0; attempt < 2; attempt++) {
+      if ("OK".equals(jedis.set(key, fingerprint, SetParams.setParams().nx().ex(ttlSeconds)))) {
+        return Optional.empty();
+      }
+      String value = jedis.get(key);
+      if (value != null) {
+        int space = value.indexOf(' ');
+        return Optional.of(space < 0 ? new Stored(value, null)
+            : new Stored(value.substring(0, space), new TaskId(value.substring(space + 1))));
+      }
+    }
+    return Optional.of(new Stored(fingerprint, null)); // churning key: treat as in flight
+  }
+
+  // KEEPTTL: the key still expires 'ttl' after the claim, not after completion
+  @Override
+  public void complete(String key, String fingerprint, TaskId taskId) {
+    jedis.set(key, fingerprint + " " + taskId.value(), SetParams.setParams().xx().keepTtl());
+  }
+
+  @Override
+  public void release(String key) {
+    jedis.del(key);
   }
 }
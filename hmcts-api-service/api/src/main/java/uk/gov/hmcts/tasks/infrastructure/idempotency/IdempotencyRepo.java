@@ -1,6 +1,33 @@
 package uk.gov.hmcts.tasks.infrastructure.idempotency;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface IdempotencyRepo extends CrudRepository<IdempotencyEntry, String> {
+  @Transactional
+  @Modifying
+  @Query("""
+      update IdempotencyEntry e set e.taskId = :taskId
+      where e.key = :key and e.fingerprint = :fingerprint
+      """)
+  int complete(@Param("key") String key, @Param("fingerprint") String fingerprint,
+      @Param("taskId") String taskId);
+
+  // Oldest first, off the created_at index
+  @Query("select e.key from IdempotencyEntry e where e.createdAt < :before order by e.createdAt")
+  List<String> findExpired(@Param("before") OffsetDateTime before, Limit limit);
+
+  // Re-checks the age, so a key reclaimed since findExpired is kept
+  @Transactional
+  @Modifying
+  @Query("delete from IdempotencyEntry e where e.key in :keys and e.createdAt < :before")
+  int deleteExpired(@Param("keys") Collection<String> keys,
+      @Param("before") OffsetDateTime before);
 }
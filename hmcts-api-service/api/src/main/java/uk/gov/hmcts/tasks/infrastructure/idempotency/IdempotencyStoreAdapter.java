@@ -1,22 +1,219 @@
 package uk.gov.hmcts.tasks.infrastructure.idempotency;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort;
+import uk.gov.hmcts.tasks.domain.TaskId;
 
+// Keys live for 'ttl' from their claim. An expired row still on disk counts as free; the sweep
+// (IdempotencySweepJob) is what keeps the table the size of the retry window.
+//
+// A claim is one statement that inserts the key, or takes over an expired row, and reports 0 rows
+// when a live claim holds it: racing requests are ordered by the database's unique index instead
+// of a read-then-write window, and the row is only read back on that (rare) losing path.
 public class IdempotencyStoreAdapter implements IdempotencyStorePort {
+  public enum Dialect {
+    POSTGRES("""
+        INSERT INTO idempotency_entry (id_key, fingerprint, task_id, created_at)
+        VALUES (:key, :fingerprint, NULL, :now)
+        ON CONFLICT (id_key) DO UPDATE
+          SET fingerprint = EXCLUDED.fingerprint, task_id = NULL, created_at = EXCLUDED.created_at
+          WHERE idempotency_entry.created_at < :before
+        """, """
+        INSERT INTO idempotency_entry (id_key, fingerprint, created_at)
+        VALUES :rows
+        ON CONFLICT (id_key) DO UPDATE
+          SET fingerprint = EXCLUDED.fingerprint, task_id = NULL, created_at = EXCLUDED.created_at
+          WHERE idempotency_entry.created_at < :before
+        RETURNING id_key
+        """),
+    // Standard MERGE for H2; not atomic against a concurrent insert of the same key, so the
+    // loser's duplicate-key error is read as "already claimed"
+    MERGE("""
+        MERGE INTO idempotency_entry e
+        USING (VALUES (CAST(:key AS VARCHAR(255)), CAST(:fingerprint AS VARCHAR(255)),
+            CAST(:now AS TIMESTAMP WITH TIME ZONE))) AS s (id_key, fingerprint, created_at)
+        ON e.id_key = s.id_key
+        WHEN MATCHED AND e.created_at < :before THEN
+          UPDATE SET fingerprint = s.fingerprint, task_id = NULL, created_at = s.created_at
+        WHEN NOT MATCHED THEN
+          INSERT (id_key, fingerprint, task_id, created_at)
+          VALUES (s.id_key, s.fingerprint, NULL, s.created_at)
+        """, """
+        SELECT id_key FROM FINAL TABLE (
+          MERGE INTO idempotency_entry e
+          USING (VALUES :rows) AS s (id_key, fingerprint, created_at)
+          ON e.id_key = s.id_key
+          WHEN MATCHED AND e.created_at < :before THEN
+            UPDATE SET fingerprint = s.fingerprint, task_id = NULL, created_at = s.created_at
+          WHEN NOT MATCHED THEN
+            INSERT (id_key, fingerprint, task_id, created_at)
+            VALUES (s.id_key, s.fingerprint, NULL, s.created_at))
+        """);
+
+    private final String claimSql;
+    // Many keys in one statement (:rows expands to one tuple per key); yields the keys it claimed
+    private final String claimAllSql;
+
+    Dialect(String claimSql, String claimAllSql) {
+      this.claimSql = claimSql;
+      this.claimAllSql = claimAllSql;
+    }
+  }
+
+  private static final String SELECT = """
+      SELECT fingerprint, task_id FROM idempotency_entry WHERE id_key = :key
+      """;
+  private static final String SELECT_ALL = """
+      SELECT id_key, fingerprint, task_id FROM idempotency_entry WHERE id_key IN (:keys)
+      """;
+
   private final IdempotencyRepo repo;
+  private final NamedParameterJdbcTemplate jdbc;
+  private final TransactionOperations tx;
+  private final Dialect dialect;
+  private final Duration ttl;
+  private final Clock clock;
 
-  public IdempotencyStoreAdapter(IdempotencyRepo repo) {
+  public IdempotencyStoreAdapter(IdempotencyRepo repo, NamedParameterJdbcTemplate jdbc,
+      TransactionOperations tx, Dialect dialect, Duration ttl, Clock clock) {
     this.repo = repo;
+    this.jdbc = jdbc;
+    this.tx = tx;
+    this.dialect = dialect;
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  // Read-write, so both statements run on the primary: a lagging replica could miss the claim or
+  // still show it in flight
+  @Override
+  @Transactional
+  public Optional<Stored> claim(String key, String fingerprint) {
+    OffsetDateTime now = OffsetDateTime.now(clock);
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("key", key)
+        .addValue("fingerprint", fingerprint)
+        .addValue("now", now)
+        .addValue("before", now.minus(ttl));
+    // The holder may be released or swept between the two statements; then claim again
+    for (int attempt = 0; attempt < 2; attempt++) {
+      if (tryClaim(params)) {
+        return Optional.empty();
+      }
+      List<Stored> held = jdbc.query(SELECT, params, (rs, n) -> stored(rs));
+      if (!held.isEmpty()) {
+        return Optional.of(held.get(0));
+      }
+    }
+    throw new IllegalStateException("Idempotency key is being used by another request");
   }
 
+  // A batch's keys in one claim statement, then one SELECT for those that were held: two round
+  // trips however many keys. Rows go in key order, so batches sharing keys lock them in the same
+  // order. A key freed between the two statements, or a MERGE that lost an insert race (which
+  // fails it as a whole), falls back to claim() per key.
   @Override
-  public boolean tryStore(String key, String fingerprint) {
-    if (repo.existsById(key))
+  @Transactional
+  public Map<String, Stored> claimAll(Map<String, String> fingerprints) {
+    if (fingerprints.isEmpty()) {
+      return Map.of();
+    }
+    OffsetDateTime now = OffsetDateTime.now(clock);
+    List<Object[]> rows = new TreeMap<>(fingerprints).entrySet().stream()
+        .map(e -> new Object[] {e.getKey(), e.getValue(), now})
+        .toList();
+    Set<String> claimed;
+    try {
+      claimed = new HashSet<>(jdbc.queryForList(dialect.claimAllSql, new MapSqlParameterSource()
+          .addValue("rows", rows)
+          .addValue("before", now.minus(ttl)), String.class));
+    } catch (DuplicateKeyException e) {
+      return IdempotencyStorePort.super.claimAll(fingerprints);
+    }
+    Map<String, Stored> held = new HashMap<>();
+    List<String> rest = fingerprints.keySet().stream().filter(k -> !claimed.contains(k)).toList();
+    if (!rest.isEmpty()) {
+      jdbc.query(SELECT_ALL, new MapSqlParameterSource("keys", rest),
+          (RowCallbackHandler) rs -> held.put(rs.getString("id_key"), stored(rs)));
+    }
+    for (String key : rest) {
+      if (!held.containsKey(key)) {
+        claim(key, fingerprints.get(key)).ifPresent(s -> held.put(key, s));
+      }
+    }
+    return held;
+  }
+
+  private static Stored stored(ResultSet rs) throws SQLException {
+    String taskId = rs.getString("task_id");
+    return new Stored(rs.getString("fingerprint"), taskId == null ? null : new TaskId(taskId));
+  }
+
+  private boolean tryClaim(MapSqlParameterSource params) {
+    try {
+      return jdbc.update(dialect.claimSql, params) > 0;
+    } catch (DuplicateKeyException e) {
       return false;
-    IdempotencyEntry e = new IdempotencyEntry();
-    e.key = key;
-    e.fingerprint = fingerprint;
-    repo.save(e);
-    return true;
+    }
+  }
+
+  @Override
+  public void complete(String key, String fingerprint, TaskId taskId) {
+    repo.complete(key, fingerprint, taskId.value());
+  }
+
+  @Override
+  public void release(String key) {
+    repo.deleteById(key);
+  }
+
+  // Same database as the tasks: the keys are completed inside the write's transaction, so they
+  // commit with the tasks or not at all. The release runs after the rollback, in its own.
+  @Override
+  public <T> T completeWith(Collection<Claim> claims, Supplier<T> write) {
+    try {
+      return tx.execute(status -> {
+        T written = write.get();
+        claims.forEach(c -> repo.complete(c.key(), c.fingerprint(), c.taskId().value()));
+        return written;
+      });
+    } catch (RuntimeException e) {
+      claims.forEach(c -> release(c.key()));
+      throw e;
+    }
+  }
+
+  // Deletes expired keys, 'batchSize' per transaction, until none are left; returns how many
+  public int sweepExpired(int batchSize) {
+    OffsetDateTime before = OffsetDateTime.now(clock).minus(ttl);
+    int total = 0;
+    List<String> keys;
+    do {
+      keys = repo.findExpired(before, Limit.of(batchSize));
+      if (!keys.isEmpty()) {
+        total += repo.deleteExpired(keys, before);
+      }
+    } while (keys.size() == batchSize);
+    return total;
   }
 }
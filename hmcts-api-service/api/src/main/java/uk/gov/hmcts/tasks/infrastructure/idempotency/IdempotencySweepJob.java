@@ -0,0 +1,29 @@
+package uk.gov.hmcts.tasks.infrastructure.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class IdempotencySweepJob {
+  private static final Logger log = LoggerFactory.getLogger(IdempotencySweepJob.class);
+
+  private final IdempotencyStoreAdapter store;
+  private final int batchSize;
+
+  public IdempotencySweepJob(IdempotencyStoreAdapter store, int batchSize) {
+    this.store = store;
+    this.batchSize = batchSize;
+  }
+
+  // Fixed delay: a long run never overlaps the next one
+  @Scheduled(initialDelayString = "${idempotency.sweep.initial-delay:PT1M}",
+      fixedDelayString = "${idempotency.sweep.interval:PT10M}")
+  public void run() {
+    long start = System.nanoTime();
+    int deleted = store.sweepExpired(batchSize);
+    if (deleted > 0) {
+      log.info("Swept {} expired idempotency keys in {} ms", deleted,
+          (System.nanoTime() - start) / 1_000_000);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.tasks.application.ports.TaskBulkLoadPort;
+import uk.gov.hmcts.tasks.domain.Task;
+
+// Fallback for databases without COPY (H2): plain JDBC batch, no entities or persistence context
+public class JdbcBatchTaskLoader implements TaskBulkLoadPort {
+  private static final String INSERT = "INSERT INTO tasks (id_key, title, description, status, "
+      + "due_at, version, updated_at) VALUES (?, ?, ?, ?, ?, 0, CURRENT_TIMESTAMP)";
+
+  private final JdbcTemplate jdbc;
+
+  public JdbcBatchTaskLoader(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  @Override
+  @Transactional
+  public void load(List<Task> chunk) {
+    jdbc.batchUpdate(INSERT, chunk, 500, (ps, t) -> {
+      ps.setObject(1, UUID.fromString(t.id().value()));
+      ps.setString(2, t.title());
+      ps.setString(3, t.description());
+      ps.setString(4, t.status().name());
+      ps.setObject(5, t.dueAt());
+    });
+  }
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSearchPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Shared shape of the search query: database-specific match and rank expressions, then the usual
+ * filters, a tie-break on the listing order (due_at, id_key) and an offset page.
+ */
+abstract class JdbcTaskSearch implements TaskSearchPort {
+  private final NamedParameterJdbcTemplate jdbc;
+
+  JdbcTaskSearch(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  // 'from': extra FROM items after "tasks"; 'match': boolean expression, the row matches;
+  // 'rank': ordered DESC, best first
+  record Clause(String from, String match, String rank) {
+  }
+
+  // Binds the query's parameters and returns the SQL that uses them
+  abstract Clause clause(String query, MapSqlParameterSource params);
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Task> search(String query, TaskFilter filter, int page, int pageSize) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    Clause c = clause(query, params);
+    StringBuilder sql = new StringBuilder("SELECT id_key, title, description, status, due_at,")
+        .append(" version FROM tasks").append(c.from())
+        .append(" WHERE (").append(c.match()).append(')');
+    if (filter.status() != null) {
+      sql.append(" AND status = :status");
+      params.addValue("status", filter.status().name());
+    }
+    if (filter.dueFrom() != null) {
+      sql.append(" AND due_at >= :dueFrom");
+      params.addValue("dueFrom", filter.dueFrom());
+    }
+    if (filter.dueTo() != null) {
+      sql.append(" AND due_at < :dueTo");
+      params.addValue("dueTo", filter.dueTo());
+    }
+    sql.append(" ORDER BY ").append(c.rank()).append(" DESC, due_at, id_key")
+        .append(" LIMIT :limit OFFSET :offset");
+    params.addValue("limit", pageSize);
+    params.addValue("offset", (long) Math.max(0, page - 1) * pageSize);
+    return jdbc.query(sql.toString(), params, JdbcTaskSearch::toTask);
+  }
+
+  // For LIKE patterns: the query's own % and _ are literals
+  static String escapeLike(String s) {
+    return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  private static Task toTask(ResultSet rs, int row) throws SQLException {
+    return new Task(new TaskId(rs.getObject("id_key", UUID.class).toString()),
+        rs.getString("title"), rs.getString("description"),
+        TaskStatus.valueOf(rs.getString("status")), rs.getObject("due_at", OffsetDateTime.class),
+        rs.getLong("version"));
+  }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Fallback for databases without full-text indexes (H2 quickstart and tests): every word must
+ * appear in the title or description, case-insensitively. Tasks with more of the words in the
+ * title rank first. This scans the table, which is fine at quickstart sizes.
+ */
+public class LikeTaskSearch extends JdbcTaskSearch {
+  static final int MAX_TERMS = 8;
+
+  public LikeTaskSearch(NamedParameterJdbcTemplate jdbc) {
+    super(jdbc);
+  }
+
+  @Override
+  Clause clause(String query, MapSqlParameterSource params) {
+    List<String> words = Arrays.stream(query.toLowerCase(Locale.ROOT).split("\\s+"))
+        .filter(w -> !w.isEmpty()).distinct().limit(MAX_TERMS).toList();
+    StringBuilder match = new StringBuilder();
+    StringBuilder rank = new StringBuilder("(");
+    for (int i = 0; i < words.size(); i++) {
+      String t = ":t" + i;
+      params.addValue("t" + i, "%" + escapeLike(words.get(i)) + "%");
+      match.append(i == 0 ? "" : " AND ").append("(LOWER(title) LIKE ").append(t)
+          .append(" ESCAPE '\\' OR LOWER(description) LIKE ").append(t).append(" ESCAPE '\\')");
+      rank.append(i == 0 ? "" : " + ").append("CASE WHEN LOWER(title) LIKE ").append(t)
+          .append(" ESCAPE '\\' THEN 1 ELSE 0 END");
+    }
+    return new Clause("", match.toString(), rank.append(')').toString());
+  }
+}
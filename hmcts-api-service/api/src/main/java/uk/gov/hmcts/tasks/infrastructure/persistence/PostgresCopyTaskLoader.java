@@ -0,0 +1,85 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.tasks.application.ports.TaskBulkLoadPort;
+import uk.gov.hmcts.tasks.domain.Task;
+
+/**
+ * COPY ... FROM STDIN: the chunk goes over the wire as one CSV stream and is parsed server-side,
+ * far cheaper than one INSERT (even batched) per row. Rows are written straight into the COPY
+ * stream, so only a buffer's worth is ever held as text. version, updated_at and due_day are left
+ * to their column defaults / generation.
+ */
+public class PostgresCopyTaskLoader implements TaskBulkLoadPort {
+  private static final String COPY = "COPY tasks (id_key, title, description, status, due_at) "
+      + "FROM STDIN WITH (FORMAT csv)";
+
+  private final DataSource dataSource;
+
+  public PostgresCopyTaskLoader(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  // The transaction's own connection, so the COPY goes through the same (routing) DataSource as
+  // every other write and commits or rolls back with it
+  @Override
+  @Transactional
+  public void load(List<Task> chunk) {
+    Connection c = DataSourceUtils.getConnection(dataSource);
+    try {
+      PGCopyOutputStream out = new PGCopyOutputStream(c.unwrap(PGConnection.class), COPY);
+      try {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (Task t : chunk) {
+          write(w, t);
+        }
+        w.close(); // flushes and ends the COPY
+      } catch (IOException | RuntimeException e) {
+        if (out.isActive()) {
+          out.cancelCopy(); // leave the connection usable for the rollback
+        }
+        throw e;
+      }
+    } catch (SQLException | IOException e) {
+      throw new DataAccessResourceFailureException("COPY into tasks failed", e);
+    } finally {
+      DataSourceUtils.releaseConnection(c, dataSource);
+    }
+  }
+
+  private static void write(Writer w, Task t) throws IOException {
+    w.write(t.id().value());
+    w.write(',');
+    quote(w, t.title());
+    w.write(',');
+    quote(w, t.description());
+    w.write(',');
+    w.write(t.status().name());
+    w.write(',');
+    if (t.dueAt() != null) { // unquoted empty field = NULL
+      w.write(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(t.dueAt()));
+    }
+    w.write('\n');
+  }
+
+  // Always quoted, so an empty string stays distinct from NULL
+  private static void quote(Writer w, String s) throws IOException {
+    w.write('"');
+    w.write(s.replace("\"", "\"\""));
+    w.write('"');
+  }
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.util.OptionalLong;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.tasks.application.ports.TaskCountEstimatePort;
+
+/**
+ * Planner statistics instead of COUNT(*): pg_class.reltuples is kept up to date by
+ * autovacuum/ANALYZE, so reading it is a single catalog lookup however large the table grows.
+ */
+public class PostgresTaskCountEstimator implements TaskCountEstimatePort {
+  // -1 until the table has been vacuumed or analyzed for the first time
+  private static final String ESTIMATE =
+      "SELECT reltuples::bigint FROM pg_class WHERE oid = 'tasks'::regclass";
+
+  private final JdbcTemplate jdbc;
+
+  public PostgresTaskCountEstimator(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  @Override
+  public OptionalLong estimateAll() {
+    Long n = jdbc.queryForObject(ESTIMATE, Long.class);
+    return n == null || n < 0 ? OptionalLong.empty() : OptionalLong.of(n);
+  }
+}
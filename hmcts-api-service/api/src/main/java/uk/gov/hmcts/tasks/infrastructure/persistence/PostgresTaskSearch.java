@@ -0,0 +1,33 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Full-text match on the generated, GIN-indexed tsvector (websearch syntax: words, "phrases",
+ * -exclusions), OR a title substring match served by the trigram index. The planner combines
+ * the two index scans, so only matching rows are read. Ranked by ts_rank (title words weigh more
+ * than description words) plus trigram similarity for partial-word hits.
+ *
+ * <p>A substring shorter than a trigram yields no trigrams, so '%ab%' would read the whole trigram
+ * index. Shorter queries match titles by prefix instead: an anchored 'ab%' pads the start like a
+ * word boundary and still gives trigrams to look up.
+ */
+public class PostgresTaskSearch extends JdbcTaskSearch {
+  static final int MIN_SUBSTRING = 3;
+
+  public PostgresTaskSearch(NamedParameterJdbcTemplate jdbc) {
+    super(jdbc);
+  }
+
+  @Override
+  Clause clause(String query, MapSqlParameterSource params) {
+    params.addValue("q", query);
+    params.addValue("like", query.length() < MIN_SUBSTRING
+        ? escapeLike(query) + "%"
+        : "%" + escapeLike(query) + "%");
+    return new Clause(", websearch_to_tsquery('english', :q) query",
+        "search @@ query OR title ILIKE :like",
+        "ts_rank(search, query) + similarity(title, :q)");
+  }
+}
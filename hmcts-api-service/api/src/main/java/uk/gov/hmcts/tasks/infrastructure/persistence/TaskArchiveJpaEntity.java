@@ -0,0 +1,62 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.hibernate.annotations.Immutable;
+
+// Rows arrive by INSERT ... SELECT from tasks (TaskArchiveJpaRepository); never written through JPA
+@Entity
+@Immutable
+@Table(name = "tasks_archive")
+public class TaskArchiveJpaEntity {
+  @Id
+  @Column(name = "id_key")
+  private UUID id;
+  @Column(nullable = false, length = 255)
+  private String title;
+  @Column(length = 2000)
+  private String description;
+  @Column(nullable = false, length = 32)
+  private String status;
+  @Column(name = "due_at")
+  private OffsetDateTime dueAt;
+  @Column(nullable = false)
+  private long version;
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+  @Column(name = "archived_at", nullable = false)
+  private OffsetDateTime archivedAt;
+
+  public UUID getId() {
+    return id;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public OffsetDateTime getDueAt() {
+    return dueAt;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public OffsetDateTime getArchivedAt() {
+    return archivedAt;
+  }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TaskArchiveJpaRepository extends JpaRepository<TaskArchiveJpaEntity, UUID> {
+
+  // Copies rows server-side; the caller deletes them from tasks in the same transaction
+  @Modifying
+  @Transactional
+  @Query(value = """
+      INSERT INTO tasks_archive
+        (id_key, title, description, status, due_at, version, updated_at, archived_at)
+      SELECT id_key, title, description, status, due_at, version, updated_at, CURRENT_TIMESTAMP
+      FROM tasks
+      WHERE id_key IN (:ids)
+      """, nativeQuery = true)
+  int copyFromTasks(@Param("ids") Collection<UUID> ids);
+
+  @Modifying
+  @Transactional
+  @Query("delete from TaskArchiveJpaEntity t where t.id = :id")
+  int deleteByIdReturningCount(@Param("id") UUID id);
+}
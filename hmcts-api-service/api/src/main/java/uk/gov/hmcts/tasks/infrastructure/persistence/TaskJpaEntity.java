@@ -2,13 +2,15 @@ package uk.gov.hmcts.tasks.infrastructure.persistence;
 
 import jakarta.persistence.*;
 import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "tasks")
-public class TaskJpaEntity {
+public class TaskJpaEntity implements Persistable<UUID> {
   @Id
-  @Column(name = "id_key", length = 50)
-  private String id;
+  @Column(name = "id_key")
+  private UUID id;
   @Column(nullable = false, length = 255)
   private String title;
   @Column(length = 2000)
@@ -17,12 +19,40 @@ public class TaskJpaEntity {
   private String status;
   @Column(name = "due_at")
   private OffsetDateTime dueAt;
+  @Version
+  @Column(nullable = false)
+  private long version;
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
 
-  public String getId() {
+  // Ids are assigned by the domain, so Spring Data cannot tell new from existing on its own;
+  // without this flag every save() is a merge (SELECT, then INSERT/UPDATE).
+  @Transient
+  private boolean isNew;
+
+  public static TaskJpaEntity newRow() {
+    TaskJpaEntity e = new TaskJpaEntity();
+    e.isNew = true;
+    return e;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    this.isNew = false;
+  }
+
+  @Override
+  public UUID getId() {
     return id;
   }
 
-  public void setId(String id) {
+  public void setId(UUID id) {
     this.id = id;
   }
 
@@ -57,4 +87,16 @@ public class TaskJpaEntity {
   public void setDueAt(OffsetDateTime dueAt) {
     this.dueAt = dueAt;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(OffsetDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
 }
@@ -1,6 +1,116 @@
 package uk.gov.hmcts.tasks.infrastructure.persistence;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, String> {
+public interface TaskJpaRepository
+    extends JpaRepository<TaskJpaEntity, UUID>, TaskJpaRepositoryCustom {
+
+  interface DayCountRow {
+    LocalDate getDueDay();
+
+    String getStatus();
+
+    long getTotal();
+  }
+
+  // Compare-and-set on status: the WHERE clause is the transition guard
+  @Modifying
+  @Transactional
+  @Query("""
+      update TaskJpaEntity t
+      set t.status = :to, t.version = t.version + 1, t.updatedAt = offset datetime
+      where t.id = :id and t.status in :from
+      """)
+  int updateStatus(@Param("id") UUID id, @Param("from") Collection<String> from,
+      @Param("to") String to);
+
+  interface IdStatusRow {
+    UUID getId();
+
+    String getStatus();
+  }
+
+  @Query("select t.id as id, t.status as status from TaskJpaEntity t where t.id in :ids")
+  List<IdStatusRow> findStatuses(@Param("ids") Collection<UUID> ids);
+
+  interface IdVersionRow {
+    UUID getId();
+
+    long getVersion();
+  }
+
+  @Query("select t.id as id, t.version as version from TaskJpaEntity t where t.id in :ids")
+  List<IdVersionRow> findVersions(@Param("ids") Collection<UUID> ids);
+
+  // Same guard as updateStatus, applied to a whole set of ids in one statement
+  @Modifying
+  @Transactional
+  @Query("""
+      update TaskJpaEntity t
+      set t.status = :to, t.version = t.version + 1, t.updatedAt = offset datetime
+      where t.id in :ids and t.status in :from
+      """)
+  int updateStatusAll(@Param("ids") Collection<UUID> ids, @Param("from") Collection<String> from,
+      @Param("to") String to);
+
+  // Plain bulk delete: no load-then-remove, returns rows deleted
+  @Modifying
+  @Transactional
+  @Query("delete from TaskJpaEntity t where t.id = :id")
+  int deleteByIdReturningCount(@Param("id") UUID id);
+
+  // Archiver: oldest idle DONE tasks, locked until the chunk's transaction commits. SKIP LOCKED
+  // (lock timeout -2): rows a user or another archiver run holds are left for the next chunk
+  // instead of blocking on them
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("""
+      select t.id from TaskJpaEntity t
+      where t.status = 'DONE' and t.updatedAt < :before
+      order by t.updatedAt
+      """)
+  List<UUID> lockDoneBefore(@Param("before") OffsetDateTime before, Limit limit);
+
+  @Modifying
+  @Transactional
+  @Query("delete from TaskJpaEntity t where t.id in :ids")
+  int deleteAllByIdReturningCount(@Param("ids") Collection<UUID> ids);
+
+  // due_day is a generated column (UTC date of due_at), indexed with status
+  @Query(value = """
+      SELECT due_day AS dueDay, status AS status, COUNT(*) AS total
+      FROM tasks
+      WHERE due_day >= :from AND due_day < :to
+      GROUP BY due_day, status
+      """, nativeQuery = true)
+  List<DayCountRow> countByDueDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  // Read-only: rows are mapped straight to the domain, so skip Hibernate's dirty-check snapshots
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query(value = """
+      SELECT id_key, title, description, status, due_at, version, updated_at
+      FROM (SELECT id_key, title, description, status, due_at, version, updated_at,
+                   ROW_NUMBER() OVER (PARTITION BY due_day ORDER BY due_at, id_key) AS rn
+            FROM tasks
+            WHERE due_day >= :from AND due_day < :to) ranked
+      WHERE rn <= :perDay
+      ORDER BY due_at, id_key
+      """, nativeQuery = true)
+  List<TaskJpaEntity> findFirstPerDueDay(@Param("from") LocalDate from,
+      @Param("to") LocalDate to, @Param("perDay") int perDay);
 }
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskJpaRepositoryCustom {
+  // Sorted window of projected rows, without the COUNT(*) that Page-returning finders add
+  List<TaskRow> findSlice(Specification<TaskJpaEntity> spec, Sort sort, long offset, int limit);
+
+  // SELECT COUNT(*) with the same predicates as findSlice
+  long countRows(Specification<TaskJpaEntity> spec);
+
+  // Forward-only cursor over every matching row, fetched 'fetchSize' rows per round trip; each row
+  // goes to 'sink' and is then dropped, so memory does not grow with the result
+  void forEachRow(Specification<TaskJpaEntity> spec, Sort sort, int fetchSize,
+      Consumer<TaskRow> sink);
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+class TaskJpaRepositoryCustomImpl implements TaskJpaRepositoryCustom {
+  @PersistenceContext
+  private EntityManager em;
+
+  @Override
+  public List<TaskRow> findSlice(Specification<TaskJpaEntity> spec, Sort sort, long offset,
+      int limit) {
+    return em.createQuery(rowQuery(spec, sort)).setFirstResult(Math.toIntExact(offset))
+        .setMaxResults(limit).getResultList();
+  }
+
+  @Override
+  public long countRows(Specification<TaskJpaEntity> spec) {
+    CriteriaBuilder cb = em.getCriteriaBuilder();
+    CriteriaQuery<Long> q = cb.createQuery(Long.class);
+    Root<TaskJpaEntity> root = q.from(TaskJpaEntity.class);
+    q.select(cb.count(root));
+    if (spec != null) {
+      q.where(spec.toPredicate(root, q, cb));
+    }
+    return em.createQuery(q).getSingleResult();
+  }
+
+  // Postgres only honours the fetch size inside a transaction (autocommit off)
+  @Override
+  @Transactional(readOnly = true)
+  public void forEachRow(Specification<TaskJpaEntity> spec, Sort sort, int fetchSize,
+      Consumer<TaskRow> sink) {
+    try (Stream<TaskRow> rows = em.createQuery(rowQuery(spec, sort))
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true).getResultStream()) {
+      rows.forEach(sink);
+    }
+  }
+
+  private CriteriaQuery<TaskRow> rowQuery(Specification<TaskJpaEntity> spec, Sort sort) {
+    CriteriaBuilder cb = em.getCriteriaBuilder();
+    CriteriaQuery<TaskRow> q = cb.createQuery(TaskRow.class);
+    Root<TaskJpaEntity> root = q.from(TaskJpaEntity.class);
+    q.select(cb.construct(TaskRow.class, root.get("id"), root.get("title"),
+        root.get("description"), root.get("status"), root.get("dueAt"), root.get("version")));
+    if (spec != null) {
+      q.where(spec.toPredicate(root, q, cb));
+    }
+    q.orderBy(QueryUtils.toOrders(sort, root, cb));
+    return q;
+  }
+}
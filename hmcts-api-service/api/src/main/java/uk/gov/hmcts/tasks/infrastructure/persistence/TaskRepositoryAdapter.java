@@ -1,49 +1,204 @@
 package uk.gov.hmcts.tasks.infrastructure.persistence;
 
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.tasks.application.ports.DayStatusCount;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
 import uk.gov.hmcts.tasks.domain.*;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
+// Reads run in read-only transactions: that flag is what routes them to a replica when
+// replicas are configured (ReplicaDataSourceConfig)
 public class TaskRepositoryAdapter implements TaskRepositoryPort {
+  // Each order matches an index column-for-column; id breaks ties so pages never overlap.
+  // Nulls sort last (Postgres default; H2 runs with DEFAULT_NULL_ORDERING=HIGH).
+  private static final Sort BY_DUE_DATE = Sort.by(Sort.Order.asc("dueAt"), Sort.Order.asc("id"));
+  private static final Sort BY_STATUS =
+      Sort.by(Sort.Order.desc("status"), Sort.Order.asc("dueAt"), Sort.Order.asc("id"));
+
+  private static final int EXPORT_FETCH_SIZE = 500;
+
   private final TaskJpaRepository repo;
+  private final TaskArchiveJpaRepository archive;
 
-  public TaskRepositoryAdapter(TaskJpaRepository repo) {
+  public TaskRepositoryAdapter(TaskJpaRepository repo, TaskArchiveJpaRepository archive) {
     this.repo = repo;
+    this.archive = archive;
   }
 
   @Override
-  public Task save(Task t) {
-    TaskJpaEntity e = new TaskJpaEntity();
-    e.setId(t.id().value());
-    e.setTitle(t.title());
-    e.setDescription(t.description());
-    e.setStatus(t.status().name());
-    e.setDueAt(t.dueAt());
-    repo.save(e);
+  public Task insert(Task t) {
+    repo.save(copy(t, TaskJpaEntity.newRow())); // persist: a single INSERT
     return t;
   }
 
   @Override
+  public List<Task> insertAll(List<Task> tasks) {
+    // One transaction; Hibernate groups the INSERTs (hibernate.jdbc.batch_size)
+    repo.saveAll(tasks.stream().map(t -> copy(t, TaskJpaEntity.newRow())).toList());
+    return tasks;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public Optional<Task> findById(TaskId id) {
-    return repo.findById(id.value()).map(this::toDomain);
+    return key(id).flatMap(k -> repo.findById(k).map(this::toDomain)
+        .or(() -> archive.findById(k).map(TaskRepositoryAdapter::fromArchive)));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Task> findAll(TaskSortOrder order, TaskFilter filter, int page, int pageSize) {
+    long offset = (long) Math.max(0, page - 1) * pageSize;
+    return repo.findSlice(TaskSpecifications.matching(filter), sort(order), offset, pageSize)
+        .stream().map(TaskRow::toDomain).toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Task> findAfter(TaskSortOrder order, TaskFilter filter, TaskSeek after,
+      int limit) {
+    Specification<TaskJpaEntity> spec =
+        TaskSpecifications.matching(filter).and(TaskSpecifications.after(order, after));
+    return repo.findSlice(spec, sort(order), 0, limit).stream().map(TaskRow::toDomain).toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long count(TaskFilter filter) {
+    return repo.countRows(TaskSpecifications.matching(filter));
+  }
+
+  @Override
+  public void forEach(TaskFilter filter, Consumer<Task> sink) {
+    repo.forEachRow(TaskSpecifications.matching(filter), BY_DUE_DATE, EXPORT_FETCH_SIZE,
+        row -> sink.accept(row.toDomain()));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<DayStatusCount> countByDueDay(LocalDate from, LocalDate to) {
+    return repo.countByDueDay(from, to).stream().map(r -> new DayStatusCount(r.getDueDay(),
+        TaskStatus.valueOf(r.getStatus()), r.getTotal())).toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Task> findFirstPerDueDay(LocalDate from, LocalDate to, int perDay) {
+    return repo.findFirstPerDueDay(from, to, perDay).stream().map(this::toDomain).toList();
   }
 
   @Override
-  public List<Task> findAll(int page, int pageSize) {
-    return repo.findAll(PageRequest.of(Math.max(0, page - 1), pageSize)).map(this::toDomain)
-        .toList();
+  public int updateStatus(TaskId id, Set<TaskStatus> from, TaskStatus to) {
+    Optional<UUID> key = key(id);
+    if (from.isEmpty() || key.isEmpty()) {
+      return 0;
+    }
+    return repo.updateStatus(key.get(), from.stream().map(Enum::name).toList(), to.name());
   }
 
   @Override
-  public void delete(TaskId id) {
-    repo.deleteById(id.value());
+  @Transactional(readOnly = true)
+  public Map<TaskId, TaskStatus> findStatuses(Collection<TaskId> ids) {
+    List<UUID> keys = keys(ids);
+    Map<TaskId, TaskStatus> out = new LinkedHashMap<>();
+    if (!keys.isEmpty()) {
+      repo.findStatuses(keys).forEach(r -> out.put(new TaskId(r.getId().toString()),
+          TaskStatus.valueOf(r.getStatus())));
+    }
+    return out;
+  }
+
+  // Deliberately outside a read-only transaction: versions back invalidation events, so they
+  // come from the primary, never a lagging replica
+  @Override
+  public Map<TaskId, Long> findVersions(Collection<TaskId> ids) {
+    List<UUID> keys = keys(ids);
+    Map<TaskId, Long> out = new LinkedHashMap<>();
+    if (!keys.isEmpty()) {
+      repo.findVersions(keys).forEach(r -> out.put(new TaskId(r.getId().toString()),
+          r.getVersion()));
+    }
+    return out;
+  }
+
+  @Override
+  public int updateStatusAll(Collection<TaskId> ids, Set<TaskStatus> from, TaskStatus to) {
+    List<UUID> keys = keys(ids);
+    if (from.isEmpty() || keys.isEmpty()) {
+      return 0;
+    }
+    return repo.updateStatusAll(keys, from.stream().map(Enum::name).toList(), to.name());
+  }
+
+  @Override
+  public int delete(TaskId id) {
+    return key(id).map(k -> {
+      int n = repo.deleteByIdReturningCount(k);
+      return n > 0 ? n : archive.deleteByIdReturningCount(k);
+    }).orElse(0);
+  }
+
+  @Override
+  @Transactional
+  public int archiveDone(OffsetDateTime before, int limit) {
+    List<UUID> ids = repo.lockDoneBefore(before, Limit.of(limit));
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    archive.copyFromTasks(ids);
+    return repo.deleteAllByIdReturningCount(ids);
+  }
+
+  private static TaskJpaEntity copy(Task t, TaskJpaEntity e) {
+    e.setId(UUID.fromString(t.id().value()));
+    e.setTitle(t.title());
+    e.setDescription(t.description());
+    e.setStatus(t.status().name());
+    e.setDueAt(t.dueAt());
+    e.setUpdatedAt(OffsetDateTime.now());
+    return e;
+  }
+
+  // Ids are stored as native uuid; anything that does not parse cannot match a row
+  private static Optional<UUID> key(TaskId id) {
+    try {
+      return Optional.of(UUID.fromString(id.value()));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static List<UUID> keys(Collection<TaskId> ids) {
+    return ids.stream().map(TaskRepositoryAdapter::key).flatMap(Optional::stream).toList();
+  }
+
+  private static Sort sort(TaskSortOrder order) {
+    return order == TaskSortOrder.STATUS ? BY_STATUS : BY_DUE_DATE;
   }
 
   private Task toDomain(TaskJpaEntity e) {
-    return new Task(new TaskId(e.getId()), e.getTitle(), e.getDescription(),
-        TaskStatus.valueOf(e.getStatus()), e.getDueAt());
+    return new Task(new TaskId(e.getId().toString()), e.getTitle(), e.getDescription(),
+        TaskStatus.valueOf(e.getStatus()), e.getDueAt(), e.getVersion());
+  }
+
+  private static Task fromArchive(TaskArchiveJpaEntity e) {
+    return new Task(new TaskId(e.getId().toString()), e.getTitle(), e.getDescription(),
+        TaskStatus.valueOf(e.getStatus()), e.getDueAt(), e.getVersion());
   }
 }
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+/**
+ * Read-only row for list queries, built by the query itself (select new ...). Nothing is
+ * attached to the persistence context, so there are no entity snapshots or dirty checks.
+ */
+record TaskRow(UUID id, String title, String description, String status,
+    OffsetDateTime dueAt, long version) {
+  Task toDomain() {
+    return new Task(new TaskId(id.toString()), title, description, TaskStatus.valueOf(status),
+        dueAt, version);
+  }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
+
+/**
+ * Filter predicates plus keyset ("seek") predicates mirroring the sorts in
+ * {@link TaskRepositoryAdapter}. Written as expanded OR-chains rather than row-value comparisons
+ * because the orders mix directions and due_at is nullable (nulls last). Each chain also carries
+ * a redundant bound on its leading column, so the index scan starts at the seek point instead of
+ * filtering every row.
+ */
+final class TaskSpecifications {
+  private TaskSpecifications() {
+  }
+
+  // Plain equality/range on indexed columns; absent criteria add nothing to the WHERE clause
+  static Specification<TaskJpaEntity> matching(TaskFilter filter) {
+    return (root, q, cb) -> {
+      List<Predicate> ps = new ArrayList<>();
+      if (filter.status() != null) {
+        ps.add(cb.equal(root.get("status"), filter.status().name()));
+      }
+      Path<OffsetDateTime> dueAt = root.get("dueAt");
+      if (filter.dueFrom() != null) {
+        ps.add(cb.greaterThanOrEqualTo(dueAt, filter.dueFrom()));
+      }
+      if (filter.dueTo() != null) {
+        ps.add(cb.lessThan(dueAt, filter.dueTo()));
+      }
+      return cb.and(ps.toArray(Predicate[]::new));
+    };
+  }
+
+  static Specification<TaskJpaEntity> after(TaskSortOrder order, TaskSeek seek) {
+    if (seek == null) {
+      return null;
+    }
+    return (root, q, cb) -> order == TaskSortOrder.STATUS ? afterStatus(root, cb, seek)
+        : afterDueDate(root, cb, seek);
+  }
+
+  // (status DESC, due_at, id_key) > seek; descending, so the bound is status <= s
+  private static Predicate afterStatus(Root<TaskJpaEntity> root, CriteriaBuilder cb,
+      TaskSeek seek) {
+    Path<String> status = root.get("status");
+    String s = seek.status().name();
+    return cb.and(cb.lessThanOrEqualTo(status, s), cb.or(cb.lessThan(status, s),
+        cb.and(cb.equal(status, s), afterDueDate(root, cb, seek))));
+  }
+
+  // (due_at NULLS LAST, id_key) > seek: the rest of the dated range, bounded by due_at >= x, then
+  // the NULL tail, which has its own index range
+  private static Predicate afterDueDate(Root<TaskJpaEntity> root, CriteriaBuilder cb,
+      TaskSeek seek) {
+    Path<OffsetDateTime> dueAt = root.get("dueAt");
+    Path<UUID> id = root.get("id");
+    UUID seekId = UUID.fromString(seek.id());
+    if (seek.dueAt() == null) {
+      return cb.and(cb.isNull(dueAt), cb.greaterThan(id, seekId));
+    }
+    return cb.or(cb.and(cb.greaterThanOrEqualTo(dueAt, seek.dueAt()),
+        cb.or(cb.greaterThan(dueAt, seek.dueAt()), cb.greaterThan(id, seekId))), cb.isNull(dueAt));
+  }
+}
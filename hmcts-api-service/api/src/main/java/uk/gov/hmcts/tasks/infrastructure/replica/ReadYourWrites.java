@@ -0,0 +1,39 @@
+package uk.gov.hmcts.tasks.infrastructure.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-request flag that pins every read to the primary: set for requests that write, and for
+ * requests that follow a write closely enough that a replica may not have caught up yet.
+ */
+public final class ReadYourWrites {
+  private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+  private ReadYourWrites() {
+  }
+
+  public static void pin() {
+    PINNED.set(Boolean.TRUE);
+  }
+
+  public static boolean isPinned() {
+    return PINNED.get() != null;
+  }
+
+  public static void clear() {
+    PINNED.remove();
+  }
+
+  // Runs 'read' against the primary, then restores the request's own pinning
+  public static <T> T onPrimary(Supplier<T> read) {
+    if (isPinned()) {
+      return read.get();
+    }
+    pin();
+    try {
+      return read.get();
+    } finally {
+      clear();
+    }
+  }
+}
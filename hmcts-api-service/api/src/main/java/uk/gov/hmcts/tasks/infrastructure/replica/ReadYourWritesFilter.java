@@ -0,0 +1,64 @@
+package uk.gov.hmcts.tasks.infrastructure.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Read-your-writes across requests. A request with a mutating method runs entirely on the primary
+ * and hands the client a short-lived cookie; while the cookie is valid, that client's reads also
+ * go to the primary, so it never sees a replica that has not yet applied its own write.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+  static final String COOKIE = "tasks_rw";
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final Duration window;
+
+  public ReadYourWritesFilter(Duration window) {
+    this.window = window;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
+      FilterChain chain) throws ServletException, IOException {
+    long now = System.currentTimeMillis();
+    if (!SAFE_METHODS.contains(req.getMethod())) {
+      ReadYourWrites.pin();
+      Cookie c = new Cookie(COOKIE, Long.toString(now + window.toMillis()));
+      c.setPath("/");
+      c.setHttpOnly(true);
+      c.setMaxAge((int) Math.max(1, window.toSeconds()));
+      res.addCookie(c); // before the chain: the body may commit the response
+    } else if (recentWrite(req, now)) {
+      ReadYourWrites.pin();
+    }
+    try {
+      chain.doFilter(req, res);
+    } finally {
+      ReadYourWrites.clear();
+    }
+  }
+
+  private static boolean recentWrite(HttpServletRequest req, long now) {
+    if (req.getCookies() == null) {
+      return false;
+    }
+    for (Cookie c : req.getCookies()) {
+      if (COOKIE.equals(c.getName())) {
+        try {
+          return Long.parseLong(c.getValue()) > now;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+}
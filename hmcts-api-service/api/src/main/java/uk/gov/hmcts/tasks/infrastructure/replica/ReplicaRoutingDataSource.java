@@ -0,0 +1,50 @@
+package uk.gov.hmcts.tasks.infrastructure.replica;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Target for read-only connections: replicas in turn, or the primary while the current request is
+ * pinned by {@link ReadYourWrites}. Read-write connections never reach this class; see
+ * ReplicaDataSourceConfig.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  private static final String PRIMARY = "primary";
+
+  private final List<DataSource> replicas;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+    this.replicas = List.copyOf(replicas);
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      targets.put(i, replicas.get(i));
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (replicas.isEmpty() || ReadYourWrites.isPinned()) {
+      return PRIMARY;
+    }
+    return Math.floorMod(next.getAndIncrement(), replicas.size());
+  }
+
+  // Replica pools are owned here; the primary belongs to its own bean
+  public void close() throws Exception {
+    for (DataSource r : replicas) {
+      if (r instanceof AutoCloseable c) {
+        c.close();
+      }
+    }
+  }
+}
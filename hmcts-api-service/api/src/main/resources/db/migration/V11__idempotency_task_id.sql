@@ -0,0 +1,2 @@
+-- Task created under each key, so retries can be answered with the original 201
+ALTER TABLE idempotency_entry ADD COLUMN task_id VARCHAR(36);
@@ -0,0 +1,3 @@
+-- When each key was claimed; keys older than idempotency.ttl are free again and get swept
+ALTER TABLE idempotency_entry ADD COLUMN created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_idempotency_created_at ON idempotency_entry(created_at);
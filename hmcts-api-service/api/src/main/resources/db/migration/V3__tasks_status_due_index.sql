@@ -0,0 +1,3 @@
+-- Backs the "status" listing: status DESC gives OPEN, IN_PROGRESS, DONE;
+-- due_at/id_key continue the order so pages come straight off the index.
+CREATE INDEX IF NOT EXISTS idx_tasks_status_due_at ON tasks(status DESC, due_at, id_key);
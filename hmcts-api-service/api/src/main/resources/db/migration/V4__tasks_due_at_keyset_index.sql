@@ -0,0 +1,4 @@
+-- Keyset pages seek on (due_at, id_key); widen the due date index so the
+-- tie-breaker is served from the index too.
+DROP INDEX IF EXISTS idx_tasks_due_at;
+CREATE INDEX IF NOT EXISTS idx_tasks_due_at ON tasks(due_at, id_key);
@@ -0,0 +1,2 @@
+-- Row version for optimistic concurrency; bumped by every status transition
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
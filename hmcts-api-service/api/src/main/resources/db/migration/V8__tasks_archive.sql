@@ -0,0 +1,14 @@
+-- When a task last changed; the archiver moves DONE tasks that have been idle long enough
+ALTER TABLE tasks ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+-- Cold storage for archived DONE tasks: same columns, no listing indexes. Only read by id.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+  id_key      UUID         PRIMARY KEY,
+  title       VARCHAR(255) NOT NULL,
+  description VARCHAR(2000),
+  status      VARCHAR(32)  NOT NULL,
+  due_at      TIMESTAMP WITH TIME ZONE,
+  version     BIGINT       NOT NULL,
+  updated_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+  archived_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
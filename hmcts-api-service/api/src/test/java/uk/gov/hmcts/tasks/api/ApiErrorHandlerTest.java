@@ -16,12 +16,14 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
 
 class ApiErrorHandlerTest {
@@ -130,6 +132,35 @@ class ApiErrorHandlerTest {
         assertThat(pd.getDetail()).isEqualTo("Type mismatch");
     }
 
+    @Test
+    void testOnBadRequest_withBadRequestException_returnsBadRequest() {
+        HttpServletRequest req = mock(HttpServletRequest.class);
+        when(req.getRequestURI()).thenReturn("/tasks");
+        BadRequestException ex = new BadRequestException("Invalid cursor");
+
+        ResponseEntity<ProblemDetail> response = handler.onBadRequest(ex, req);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        ProblemDetail pd =
+                Objects.requireNonNull(response.getBody(), "ProblemDetail body expected");
+        assertThat(pd.getDetail()).isEqualTo("Invalid cursor");
+    }
+
+    @Test
+    void testOnUnsupportedMediaType_returns415() {
+        HttpServletRequest req = mock(HttpServletRequest.class);
+        when(req.getRequestURI()).thenReturn("/tasks/import");
+        HttpMediaTypeNotSupportedException ex = new HttpMediaTypeNotSupportedException(
+                MediaType.APPLICATION_JSON, List.of(MediaType.valueOf("text/csv")));
+
+        ResponseEntity<ProblemDetail> response = handler.onUnsupportedMediaType(ex, req);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        ProblemDetail pd =
+                Objects.requireNonNull(response.getBody(), "ProblemDetail body expected");
+        assertThat(pd.getTitle()).isEqualTo("Unsupported Media Type");
+    }
+
     @Test
     void testOnNotFound_returnsNotFound() {
         HttpServletRequest req = mock(HttpServletRequest.class);
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.tasks.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Item;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Outcome;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Result;
+import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusBatchUseCase;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+@WebMvcTest(TaskBatchController.class)
+class TaskBatchControllerTest {
+  @Autowired
+  MockMvc mvc;
+  @MockBean
+  CreateTasksBatchUseCase batch;
+  @MockBean
+  UpdateTaskStatusBatchUseCase statusBatch;
+
+  @Test
+  void batch_reports_per_item_status() throws Exception {
+    Task t = Task.createNew("A", null, null);
+    Task r = Task.createNew("C", null, null);
+    Mockito.when(batch.execute(List.of(new Item("A", null, null, "k1"),
+        new Item("B", null, null, "k2"), new Item("", null, null, null),
+        new Item("C", null, null, "k3"))))
+        .thenReturn(List.of(new Result(0, Outcome.CREATED, t, null),
+            new Result(1, Outcome.DUPLICATE, null, "Duplicate request (idempotency)"),
+            new Result(2, Outcome.INVALID, null, "title required"),
+            new Result(3, Outcome.REPLAYED, r, null)));
+
+    mvc.perform(post("/tasks:batch").contentType(MediaType.APPLICATION_JSON)
+        .content("""
+            {"tasks":[{"title":"A","idempotency_key":"k1"},
+                      {"title":"B","idempotency_key":"k2"},{"title":""},
+                      {"title":"C","idempotency_key":"k3"}]}
+            """))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.created").value(2))
+        .andExpect(jsonPath("$.failed").value(2))
+        .andExpect(jsonPath("$.results[3].status").value(201))
+        .andExpect(jsonPath("$.results[3].id").value(r.id().value()))
+        .andExpect(jsonPath("$.results[0].status").value(201))
+        .andExpect(jsonPath("$.results[0].location").value("/tasks/" + t.id().value()))
+        .andExpect(jsonPath("$.results[1].status").value(409))
+        .andExpect(jsonPath("$.results[2].status").value(422))
+        .andExpect(jsonPath("$.results[2].error").value("title required"));
+  }
+
+  @Test
+  void empty_batch_returns_422() throws Exception {
+    mvc.perform(post("/tasks:batch").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"tasks\":[]}")).andExpect(status().isUnprocessableEntity());
+    Mockito.verifyNoInteractions(batch);
+  }
+
+  @Test
+  void batch_status_reports_per_id_outcome() throws Exception {
+    Mockito.when(statusBatch.execute(List.of("a", "b", "c"), TaskStatus.DONE))
+        .thenReturn(new UpdateTaskStatusBatchUseCase.Batch(List.of(
+            new UpdateTaskStatusBatchUseCase.Result("a",
+                UpdateTaskStatusBatchUseCase.Outcome.UPDATED, TaskStatus.DONE),
+            new UpdateTaskStatusBatchUseCase.Result("b",
+                UpdateTaskStatusBatchUseCase.Outcome.CONFLICT, TaskStatus.OPEN),
+            new UpdateTaskStatusBatchUseCase.Result("c",
+                UpdateTaskStatusBatchUseCase.Outcome.NOT_FOUND, null)), false));
+
+    mvc.perform(post("/tasks:batchStatus").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"ids\":[\"a\",\"b\",\"c\"],\"status\":\"DONE\"}"))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.updated").value(1))
+        .andExpect(jsonPath("$.failed").value(2))
+        .andExpect(jsonPath("$.has_more").value(false))
+        .andExpect(jsonPath("$.results[0].status").value(200))
+        .andExpect(jsonPath("$.results[0].task_status").value("DONE"))
+        .andExpect(jsonPath("$.results[1].status").value(409))
+        .andExpect(jsonPath("$.results[2].status").value(404));
+  }
+
+  @Test
+  void batch_status_needs_exactly_one_of_ids_or_filter() throws Exception {
+    mvc.perform(post("/tasks:batchStatus").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"ids\":[\"a\"],\"filter\":{},\"status\":\"DONE\"}"))
+        .andExpect(status().isBadRequest());
+    Mockito.verifyNoInteractions(statusBatch);
+  }
+}
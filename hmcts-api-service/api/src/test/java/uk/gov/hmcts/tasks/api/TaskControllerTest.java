@@ -4,6 +4,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -17,10 +18,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.tasks.application.errors.UnprocessableEntityException;
+import uk.gov.hmcts.tasks.application.usecases.CountTasksUseCase;
 import uk.gov.hmcts.tasks.application.usecases.CreateTaskUseCase;
 import uk.gov.hmcts.tasks.application.usecases.DeleteTaskUseCase;
+import uk.gov.hmcts.tasks.application.usecases.GetTaskCalendarUseCase;
 import uk.gov.hmcts.tasks.application.usecases.GetTaskUseCase;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.strategy.TaskCount;
 import uk.gov.hmcts.tasks.application.usecases.ListTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.SearchTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.TaskCalendar;
+import uk.gov.hmcts.tasks.application.usecases.TaskSlice;
 import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusUseCase;
 import uk.gov.hmcts.tasks.domain.Task;
 import uk.gov.hmcts.tasks.domain.TaskId;
@@ -38,6 +48,12 @@ class TaskControllerTest {
   @MockBean
   ListTasksUseCase list;
   @MockBean
+  GetTaskCalendarUseCase calendar;
+  @MockBean
+  CountTasksUseCase count;
+  @MockBean
+  SearchTasksUseCase search;
+  @MockBean
   GetTaskUseCase get;
   @MockBean
   DeleteTaskUseCase delete;
@@ -48,7 +64,7 @@ class TaskControllerTest {
     Mockito
         .when(
             create.execute(Mockito.eq("Title"), Mockito.isNull(), Mockito.isNull(), Mockito.any()))
-        .thenReturn(t);
+        .thenReturn(new CreateTaskUseCase.Created(t, false));
 
     mvc.perform(
         post("/tasks").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Title\"}"))
@@ -61,7 +77,7 @@ class TaskControllerTest {
     Mockito
         .when(
             create.execute(Mockito.eq("Title"), Mockito.isNull(), Mockito.isNull(), Mockito.any()))
-        .thenReturn(t);
+        .thenReturn(new CreateTaskUseCase.Created(t, false));
 
     mvc.perform(
         post("/tasks").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Title\"}"))
@@ -79,11 +95,67 @@ class TaskControllerTest {
         .andExpect(jsonPath("$.dueAt").value("2024-06-01T12:00:00Z"));
   }
 
+  @Test
+  void get_sends_version_etag_and_answers_304_from_the_same_read() throws Exception {
+    Task t = new Task(TaskId.newId(), "Title", null, TaskStatus.OPEN, null, 3);
+    String id = t.id().value();
+    Mockito.when(get.execute(id)).thenReturn(t);
+
+    mvc.perform(get("/tasks/" + id)).andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"3\""));
+    Mockito.clearInvocations(get);
+
+    mvc.perform(get("/tasks/" + id).header("If-None-Match", "\"3\""))
+        .andExpect(status().isNotModified()).andExpect(header().string("ETag", "\"3\""))
+        .andExpect(content().string(""));
+    Mockito.verify(get).execute(id);
+  }
+
+  @Test
+  void get_with_stale_etag_returns_the_task() throws Exception {
+    Task t = new Task(TaskId.newId(), "Title", null, TaskStatus.IN_PROGRESS, null, 4);
+    String id = t.id().value();
+    Mockito.when(get.execute(id)).thenReturn(t);
+
+    mvc.perform(get("/tasks/" + id).header("If-None-Match", "\"3\"")).andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"4\""))
+        .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+  }
+
+  @Test
+  void list_etag_changes_with_any_row_version_and_matches_otherwise() throws Exception {
+    Task t1 = Task.createNew("Title1", null, null);
+    Task t2 = Task.createNew("Title2", null, null);
+    Mockito.when(list.execute(1, 20, "dueDate", TaskFilter.NONE)).thenReturn(List.of(t1, t2));
+
+    String etag = mvc.perform(get("/tasks")).andExpect(status().isOk()).andReturn().getResponse()
+        .getHeader("ETag");
+    mvc.perform(get("/tasks").header("If-None-Match", "W/" + etag))
+        .andExpect(status().isNotModified()).andExpect(content().string(""));
+
+    Task t2v1 = new Task(t2.id(), "Title2", null, TaskStatus.IN_PROGRESS, null, 1);
+    Mockito.when(list.execute(1, 20, "dueDate", TaskFilter.NONE)).thenReturn(List.of(t1, t2v1));
+    mvc.perform(get("/tasks").header("If-None-Match", etag)).andExpect(status().isOk())
+        .andExpect(header().string("ETag", org.hamcrest.Matchers.not(etag)));
+  }
+
+  @Test
+  void list_etag_covers_the_total() throws Exception {
+    Mockito.when(list.execute(1, 20, "dueDate", TaskFilter.NONE)).thenReturn(List.of());
+    Mockito.when(count.execute(TaskFilter.NONE)).thenReturn(new TaskCount(5, true));
+    String etag = mvc.perform(get("/tasks?total=header")).andReturn().getResponse()
+        .getHeader("ETag");
+
+    Mockito.when(count.execute(TaskFilter.NONE)).thenReturn(new TaskCount(6, true));
+    mvc.perform(get("/tasks?total=header").header("If-None-Match", etag))
+        .andExpect(status().isOk()).andExpect(header().string("X-Total-Count", "6"));
+  }
+
   @Test
   void list_returns_tasks_accordingto_dueDate() throws Exception {
     Task t1 = Task.createNew("Title1", "Desc1", null);
     Task t2 = Task.createNew("Title2", "Desc2", null);
-    Mockito.when(list.execute(1, 20, "dueDate")).thenReturn(List.of(t1, t2));
+    Mockito.when(list.execute(1, 20, "dueDate", TaskFilter.NONE)).thenReturn(List.of(t1, t2));
 
     mvc.perform(get("/tasks")).andExpect(status().isOk())
         .andExpect(jsonPath("$[0].title").value("Title1"))
@@ -94,7 +166,7 @@ class TaskControllerTest {
   void list_returns_tasks_accordingto_status() throws Exception {
     Task t1 = Task.createNew("Title1", "Desc1", null);
     Task t2 = Task.createNew("Title2", "Desc2", null).updateStatus(TaskStatus.IN_PROGRESS);;
-    Mockito.when(list.execute(1, 20, "status")).thenReturn(List.of(t1, t2));
+    Mockito.when(list.execute(1, 20, "status", TaskFilter.NONE)).thenReturn(List.of(t1, t2));
 
     mvc.perform(get("/tasks?sort=status")).andExpect(status().isOk())
         .andExpect(jsonPath("$[0].title").value("Title1"))
@@ -103,6 +175,139 @@ class TaskControllerTest {
         .andExpect(jsonPath("$[1].status").value("IN_PROGRESS"));
   }
 
+  @Test
+  void list_passes_status_and_due_range_filters() throws Exception {
+    Task t1 = Task.createNew("Title1", null, OffsetDateTime.parse("2024-06-03T09:00:00Z"))
+        .updateStatus(TaskStatus.IN_PROGRESS);
+    TaskFilter filter = new TaskFilter(TaskStatus.IN_PROGRESS,
+        OffsetDateTime.parse("2024-06-01T00:00:00Z"), OffsetDateTime.parse("2024-07-01T00:00:00Z"));
+    Mockito.when(list.execute(1, 20, "dueDate", filter)).thenReturn(List.of(t1));
+
+    mvc.perform(get("/tasks?status=IN_PROGRESS&due_from=2024-06-01T00:00:00Z"
+        + "&due_to=2024-07-01T00:00:00Z")).andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].title").value("Title1"));
+  }
+
+  @Test
+  void list_without_total_runs_no_count() throws Exception {
+    Mockito.when(list.execute(1, 20, "dueDate", TaskFilter.NONE)).thenReturn(List.of());
+
+    mvc.perform(get("/tasks")).andExpect(status().isOk())
+        .andExpect(header().doesNotExist("X-Total-Count"));
+    Mockito.verifyNoInteractions(count);
+  }
+
+  @Test
+  void list_total_header_adds_x_total_count_for_the_same_filter() throws Exception {
+    TaskFilter filter = new TaskFilter(TaskStatus.OPEN, null, null);
+    Mockito.when(list.execute(1, 20, "dueDate", filter))
+        .thenReturn(List.of(Task.createNew("Title1", null, null)));
+    Mockito.when(count.execute(filter)).thenReturn(new TaskCount(41, true));
+
+    mvc.perform(get("/tasks?status=OPEN&total=header")).andExpect(status().isOk())
+        .andExpect(header().string("X-Total-Count", "41"))
+        .andExpect(header().string("X-Total-Count-Exact", "true"))
+        .andExpect(jsonPath("$[0].title").value("Title1"));
+  }
+
+  @Test
+  void list_total_envelope_wraps_page_with_meta() throws Exception {
+    Mockito.when(list.execute(2, 20, "dueDate", TaskFilter.NONE))
+        .thenReturn(List.of(Task.createNew("Title1", null, null)));
+    Mockito.when(count.execute(TaskFilter.NONE)).thenReturn(new TaskCount(41, false));
+
+    mvc.perform(get("/tasks?page=2&total=envelope")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].title").value("Title1"))
+        .andExpect(jsonPath("$.meta.page").value(2))
+        .andExpect(jsonPath("$.meta.page_size").value(20))
+        .andExpect(jsonPath("$.meta.total_items").value(41))
+        .andExpect(jsonPath("$.meta.total_pages").value(3))
+        .andExpect(jsonPath("$.meta.total_exact").value(false));
+  }
+
+  @Test
+  void list_with_unknown_total_mode_returns_400() throws Exception {
+    mvc.perform(get("/tasks?total=body")).andExpect(status().isBadRequest());
+    Mockito.verifyNoInteractions(list, count);
+  }
+
+  @Test
+  void search_returns_ranked_matches_with_filters() throws Exception {
+    Task t1 = Task.createNew("Renew licence", null, null);
+    Task t2 = Task.createNew("Call court", "licence renewal paperwork", null);
+    TaskFilter filter = new TaskFilter(TaskStatus.OPEN, null, null);
+    Mockito.when(search.execute("licence", filter, 1, 20)).thenReturn(List.of(t1, t2));
+
+    mvc.perform(get("/tasks/search?q=licence&status=OPEN")).andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].title").value("Renew licence"))
+        .andExpect(jsonPath("$[1].title").value("Call court"));
+  }
+
+  @Test
+  void search_without_q_returns_400() throws Exception {
+    mvc.perform(get("/tasks/search")).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void list_with_unknown_status_returns_400_problem() throws Exception {
+    mvc.perform(get("/tasks?status=LATE")).andExpect(status().isBadRequest())
+        .andExpect(header().string("Content-Type",
+            org.hamcrest.Matchers.containsString("application/problem+json")));
+  }
+
+  @Test
+  void list_by_cursor_returns_next_cursor_that_round_trips() throws Exception {
+    Task t1 = new Task(TaskId.newId(), "Title1", null, TaskStatus.OPEN,
+        OffsetDateTime.parse("2024-06-01T12:00:00Z"));
+    TaskSeek seek = TaskSeek.after(t1);
+    Mockito.when(list.executeAfter(null, 1, "status", TaskFilter.NONE))
+        .thenReturn(new TaskSlice(List.of(t1), "status", seek));
+    Mockito.when(list.executeAfter(seek, 1, "status", TaskFilter.NONE))
+        .thenReturn(new TaskSlice(List.of(), "status", null));
+
+    String body = mvc.perform(get("/tasks?cursor=&page_size=1&sort=status"))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.data[0].title").value("Title1"))
+        .andReturn().getResponse().getContentAsString();
+    String next = new org.json.JSONObject(body).getString("next_cursor");
+
+    // the cursor carries the sort, so a conflicting 'sort' param is ignored
+    mvc.perform(get("/tasks").param("cursor", next).param("page_size", "1")
+        .param("sort", "dueDate")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.data").isEmpty())
+        .andExpect(jsonPath("$.next_cursor").doesNotExist());
+  }
+
+  @Test
+  void list_with_invalid_cursor_returns_400_problem() throws Exception {
+    mvc.perform(get("/tasks?cursor=not-a-cursor")).andExpect(status().isBadRequest())
+        .andExpect(header().string("Content-Type",
+            org.hamcrest.Matchers.containsString("application/problem+json")));
+  }
+
+  @Test
+  void calendar_returns_day_cells() throws Exception {
+    Task t = Task.createNew("Hearing", null, OffsetDateTime.parse("2024-06-03T09:00:00Z"));
+    TaskCalendar.Day day = new TaskCalendar.Day(java.time.LocalDate.parse("2024-06-03"),
+        java.util.Map.of(TaskStatus.OPEN, 2L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.DONE, 1L),
+        List.of(t));
+    Mockito.when(calendar.execute(java.time.YearMonth.of(2024, 6), 3))
+        .thenReturn(new TaskCalendar(java.time.YearMonth.of(2024, 6), List.of(day)));
+
+    mvc.perform(get("/tasks/calendar?month=2024-06")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.month").value("2024-06"))
+        .andExpect(jsonPath("$.days[0].date").value("2024-06-03"))
+        .andExpect(jsonPath("$.days[0].counts.OPEN").value(2))
+        .andExpect(jsonPath("$.days[0].total").value(3))
+        .andExpect(jsonPath("$.days[0].tasks[0].title").value("Hearing"));
+  }
+
+  @Test
+  void calendar_with_bad_month_returns_400_problem() throws Exception {
+    mvc.perform(get("/tasks/calendar?month=June")).andExpect(status().isBadRequest())
+        .andExpect(header().string("Content-Type",
+            org.hamcrest.Matchers.containsString("application/problem+json")));
+  }
+
   @Test
   void updateStatus_toInProgress() throws Exception {
     Task t = Task.createNew("Title", null, null).updateStatus(TaskStatus.IN_PROGRESS);
@@ -135,13 +340,40 @@ class TaskControllerTest {
     Task t = new Task(new TaskId("abc-123"), "Title", null, TaskStatus.OPEN, null);
     Mockito.when(
         create.execute(Mockito.eq("Title"), Mockito.isNull(), Mockito.isNull(), Mockito.isNull()))
-        .thenReturn(t);
+        .thenReturn(new CreateTaskUseCase.Created(t, false));
 
     mvc.perform(
         post("/tasks").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Title\"}"))
         .andExpect(status().isCreated()).andExpect(header().string("Location", "/tasks/abc-123"));
   }
 
+  @Test
+  void replayed_create_returns_original_201_and_says_so() throws Exception {
+    Task t = new Task(new TaskId("abc-123"), "Title", null, TaskStatus.OPEN, null);
+    Mockito.when(create.execute(Mockito.eq("Title"), Mockito.isNull(), Mockito.isNull(),
+        Mockito.eq("k1"))).thenReturn(new CreateTaskUseCase.Created(t, true));
+
+    mvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON)
+        .header("Idempotency-Key", "k1").content("{\"title\":\"Title\"}"))
+        .andExpect(status().isCreated())
+        .andExpect(header().string("Location", "/tasks/abc-123"))
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andExpect(jsonPath("$.id").value("abc-123"));
+  }
+
+  @Test
+  void idempotency_key_reused_for_other_payload_returns_422_problem() throws Exception {
+    Mockito.when(create.execute(Mockito.eq("Title"), Mockito.isNull(), Mockito.isNull(),
+        Mockito.eq("k1"))).thenThrow(new UnprocessableEntityException(
+            "Idempotency-Key was already used for a different request"));
+
+    mvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON)
+        .header("Idempotency-Key", "k1").content("{\"title\":\"Title\"}"))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.detail")
+            .value("Idempotency-Key was already used for a different request"));
+  }
+
   @Test
   void duplicate_idempotency_returns_409_problem() throws Exception {
     Mockito
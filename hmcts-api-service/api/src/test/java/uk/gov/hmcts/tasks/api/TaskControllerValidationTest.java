@@ -11,10 +11,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.tasks.application.usecases.CountTasksUseCase;
 import uk.gov.hmcts.tasks.application.usecases.CreateTaskUseCase;
 import uk.gov.hmcts.tasks.application.usecases.DeleteTaskUseCase;
+import uk.gov.hmcts.tasks.application.usecases.GetTaskCalendarUseCase;
 import uk.gov.hmcts.tasks.application.usecases.GetTaskUseCase;
 import uk.gov.hmcts.tasks.application.usecases.ListTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.SearchTasksUseCase;
 import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusUseCase;
 
 @WebMvcTest(TaskController.class)
@@ -33,6 +36,12 @@ class TaskControllerValidationTest {
   DeleteTaskUseCase delete;
   @MockBean
   ListTasksUseCase list;
+  @MockBean
+  GetTaskCalendarUseCase calendar;
+  @MockBean
+  CountTasksUseCase count;
+  @MockBean
+  SearchTasksUseCase search;
 
   @Test
   void post_empty_title_returns_422_problem() throws Exception {
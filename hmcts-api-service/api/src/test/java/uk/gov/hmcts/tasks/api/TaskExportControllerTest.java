@@ -0,0 +1,75 @@
+package uk.gov.hmcts.tasks.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.usecases.ExportTasksUseCase;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+@WebMvcTest(TaskExportController.class)
+class TaskExportControllerTest {
+  @Autowired
+  MockMvc mvc;
+  @MockBean
+  ExportTasksUseCase export;
+
+  Task a = Task.createNew("Plain", null, OffsetDateTime.parse("2024-06-01T10:00:00Z"));
+  Task b = Task.createNew("Says \"hi\", twice", "line1\nline2", null);
+
+  @SuppressWarnings("unchecked")
+  private void exports(Task... tasks) {
+    Mockito.doAnswer(inv -> {
+      Consumer<Task> sink = inv.getArgument(1);
+      for (Task t : tasks) {
+        sink.accept(t);
+      }
+      return null;
+    }).when(export).execute(ArgumentMatchers.any(), ArgumentMatchers.any(Consumer.class));
+  }
+
+  @Test
+  void ndjson_writes_one_object_per_line() throws Exception {
+    exports(a, b);
+    String body = mvc.perform(get("/tasks/export").param("status", "OPEN"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type",
+            org.hamcrest.Matchers.startsWith(TaskExportController.NDJSON)))
+        .andReturn().getResponse().getContentAsString();
+
+    String[] lines = body.split("\n");
+    Assertions.assertEquals(2, lines.length);
+    Assertions.assertEquals("Plain", new org.json.JSONObject(lines[0]).getString("title"));
+    Assertions.assertEquals("line1\nline2",
+        new org.json.JSONObject(lines[1]).getString("description"));
+    Mockito.verify(export).execute(ArgumentMatchers.eq(
+        new TaskFilter(TaskStatus.OPEN, null, null)), ArgumentMatchers.any());
+  }
+
+  @Test
+  void csv_quotes_fields_that_need_it() throws Exception {
+    exports(a, b);
+    mvc.perform(get("/tasks/export").param("format", "csv")).andExpect(status().isOk())
+        .andExpect(content().string("id,title,description,status,dueAt\r\n"
+            + a.id().value() + ",Plain,,OPEN,2024-06-01T10:00Z\r\n"
+            + b.id().value() + ",\"Says \"\"hi\"\", twice\",\"line1\nline2\",OPEN,\r\n"));
+  }
+
+  @Test
+  void unknown_format_returns_400() throws Exception {
+    mvc.perform(get("/tasks/export").param("format", "xml")).andExpect(status().isBadRequest());
+    Mockito.verifyNoInteractions(export);
+  }
+}
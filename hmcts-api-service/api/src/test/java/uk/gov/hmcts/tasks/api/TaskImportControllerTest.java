@@ -0,0 +1,79 @@
+package uk.gov.hmcts.tasks.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Row;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Summary;
+
+@WebMvcTest(TaskImportController.class)
+class TaskImportControllerTest {
+  @Autowired
+  MockMvc mvc;
+  @MockBean
+  ImportTasksUseCase importer;
+
+  List<Row> seen = new ArrayList<>();
+
+  private void drains() {
+    Mockito.when(importer.execute(ArgumentMatchers.any(), ArgumentMatchers.any()))
+        .thenAnswer(inv -> {
+          Iterator<Row> rows = inv.getArgument(0);
+          rows.forEachRemaining(seen::add);
+          return new Summary(seen.size(), seen.size(), 0, List.of());
+        });
+  }
+
+  @Test
+  void csv_reads_header_columns_and_quoted_line_breaks() throws Exception {
+    drains();
+    mvc.perform(post("/tasks/import").contentType("text/csv").content(
+        "id,title,description,status,dueAt\r\n"
+            + "x,Plain,,OPEN,2024-06-01T10:00Z\r\n"
+            + "\r\n"
+            + "y,\"Says \"\"hi\"\", twice\",\"line1\nline2\",DONE,\r\n"
+            + "z,Last\r\n"))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.read").value(3));
+
+    Assertions.assertEquals(List.of(new Row(2, "Plain", "", "OPEN", "2024-06-01T10:00Z", null),
+        new Row(4, "Says \"hi\", twice", "line1\nline2", "DONE", "", null),
+        new Row(6, "Last", null, null, null, null)), seen);
+  }
+
+  @Test
+  void ndjson_reads_one_object_per_line_and_flags_bad_lines() throws Exception {
+    drains();
+    mvc.perform(post("/tasks/import").contentType("application/x-ndjson").content(
+        "{\"title\":\"A\",\"dueAt\":\"2024-06-01T10:00:00Z\"}\n\n{oops\n[1]\n"))
+        .andExpect(status().isOk());
+
+    Assertions.assertEquals(List.of(new Row(1, "A", null, null, "2024-06-01T10:00:00Z", null),
+        new Row(3, null, null, null, null, "malformed JSON"),
+        new Row(4, null, null, null, null, "not a JSON object")), seen);
+  }
+
+  @Test
+  void csv_without_title_column_returns_400() throws Exception {
+    mvc.perform(post("/tasks/import").contentType("text/csv").content("name\r\nA\r\n"))
+        .andExpect(status().isBadRequest());
+    Mockito.verifyNoInteractions(importer);
+  }
+
+  @Test
+  void other_content_types_are_rejected() throws Exception {
+    mvc.perform(post("/tasks/import").contentType("application/json").content("[]"))
+        .andExpect(status().isUnsupportedMediaType());
+  }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.TaskCountEstimatePort;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+class CountStrategyTest {
+  private static final TaskFilter OPEN = new TaskFilter(TaskStatus.OPEN, null, null);
+
+  @Test
+  void exactCountsWithTheFilter() {
+    TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+    when(repo.count(OPEN)).thenReturn(7L);
+
+    assertEquals(new TaskCount(7, true), new ExactCountStrategy(repo).count(OPEN));
+  }
+
+  @Test
+  void estimateUsesStatisticsOnlyForUnfilteredLists() {
+    TaskCountEstimatePort stats = () -> OptionalLong.of(1_000_000);
+    TaskCountStrategy exact = mock(TaskCountStrategy.class);
+    when(exact.count(OPEN)).thenReturn(new TaskCount(7, true));
+    EstimatedCountStrategy s = new EstimatedCountStrategy(stats, exact);
+
+    assertEquals(new TaskCount(1_000_000, false), s.count(TaskFilter.NONE));
+    assertEquals(new TaskCount(7, true), s.count(OPEN));
+    verify(exact, never()).count(TaskFilter.NONE);
+  }
+
+  @Test
+  void estimateFallsBackWhenNoStatistics() {
+    TaskCountStrategy exact = mock(TaskCountStrategy.class);
+    when(exact.count(TaskFilter.NONE)).thenReturn(new TaskCount(3, true));
+
+    assertEquals(new TaskCount(3, true),
+        new EstimatedCountStrategy(OptionalLong::empty, exact).count(TaskFilter.NONE));
+  }
+
+  @Test
+  void cachedServesStaleValueAndRefreshesInBackground() {
+    MutableClock clock = new MutableClock();
+    TaskCountStrategy exact = mock(TaskCountStrategy.class);
+    when(exact.count(OPEN)).thenReturn(new TaskCount(5, true), new TaskCount(6, true));
+    List<Runnable> background = new ArrayList<>();
+    CachedCountStrategy s =
+        new CachedCountStrategy(exact, Duration.ofSeconds(30), clock, background::add);
+
+    assertEquals(new TaskCount(5, true), s.count(OPEN)); // first request counts inline
+    assertEquals(new TaskCount(5, false), s.count(OPEN)); // then from cache
+    verify(exact, times(1)).count(OPEN);
+
+    clock.now = clock.now.plusSeconds(31);
+    assertEquals(new TaskCount(5, false), s.count(OPEN)); // stale, refresh scheduled
+    assertEquals(new TaskCount(5, false), s.count(OPEN)); // only one refresh in flight
+    assertEquals(1, background.size());
+
+    background.get(0).run();
+    assertEquals(new TaskCount(6, false), s.count(OPEN));
+    verify(exact, times(2)).count(OPEN);
+  }
+
+  @Test
+  void cachedKeepsTheMostRecentlyUsedFiltersPastTheCap() {
+    TaskCountStrategy exact = mock(TaskCountStrategy.class);
+    when(exact.count(any())).thenReturn(new TaskCount(1, true));
+    CachedCountStrategy s = new CachedCountStrategy(exact, Duration.ofSeconds(30),
+        new MutableClock(), Runnable::run);
+    OffsetDateTime day = OffsetDateTime.parse("2024-06-01T00:00:00Z");
+
+    s.count(OPEN);
+    for (int i = 0; i < CachedCountStrategy.MAX_ENTRIES; i++) {
+      s.count(new TaskFilter(null, day.plusDays(i), null));
+      s.count(OPEN); // keeps OPEN recently used
+    }
+    assertEquals(CachedCountStrategy.MAX_ENTRIES, s.size());
+
+    TaskFilter newest = new TaskFilter(null, day.minusDays(1), null);
+    assertEquals(new TaskCount(1, true), s.count(newest)); // still cached past the cap
+    assertEquals(new TaskCount(1, false), s.count(newest));
+    assertEquals(new TaskCount(1, false), s.count(OPEN));
+    assertEquals(new TaskCount(1, true), s.count(new TaskFilter(null, day, null))); // evicted
+    assertEquals(CachedCountStrategy.MAX_ENTRIES, s.size());
+  }
+
+  @Test
+  void cachedDropsEntriesTooOldToServe() {
+    MutableClock clock = new MutableClock();
+    TaskCountStrategy exact = mock(TaskCountStrategy.class);
+    when(exact.count(OPEN)).thenReturn(new TaskCount(5, true)).thenReturn(new TaskCount(6, true));
+    List<Runnable> background = new ArrayList<>();
+    Duration ttl = Duration.ofSeconds(30);
+    CachedCountStrategy s = new CachedCountStrategy(exact, ttl, clock, background::add);
+
+    s.count(OPEN);
+    clock.now = clock.now.plus(ttl.multipliedBy(CachedCountStrategy.MAX_AGE_TTLS)).plusSeconds(1);
+
+    assertEquals(new TaskCount(6, true), s.count(OPEN)); // counted inline, not served stale
+    assertTrue(background.isEmpty());
+  }
+
+  private static final class MutableClock extends Clock {
+    Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    public Instant instant() {
+      return now;
+    }
+  }
+}
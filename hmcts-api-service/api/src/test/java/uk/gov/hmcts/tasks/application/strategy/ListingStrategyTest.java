@@ -0,0 +1,43 @@
+package uk.gov.hmcts.tasks.application.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+class ListingStrategyTest {
+  TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+
+  @Test
+  void dueDate_delegates_ordering_to_repository() {
+    List<Task> page = List.of(Task.createNew("t", null, null));
+    when(repo.findAll(TaskSortOrder.DUE_DATE, TaskFilter.NONE, 2, 20)).thenReturn(page);
+
+    assertSame(page, new DueDateListingStrategy(repo).list(TaskFilter.NONE, 2, 20));
+  }
+
+  @Test
+  void status_delegates_ordering_to_repository() {
+    List<Task> page = List.of(Task.createNew("t", null, null));
+    when(repo.findAll(TaskSortOrder.STATUS, TaskFilter.NONE, 1, 50)).thenReturn(page);
+
+    assertSame(page, new StatusListingStrategy(repo).list(TaskFilter.NONE, 1, 50));
+  }
+
+  @Test
+  void status_names_descending_follow_the_workflow() {
+    // STATUS ordering is "ORDER BY status DESC"; a new status must keep this true
+    List<TaskStatus> byNameDesc = Arrays.stream(TaskStatus.values())
+        .sorted(Comparator.comparing(TaskStatus::name).reversed()).toList();
+    assertEquals(List.of(TaskStatus.OPEN, TaskStatus.IN_PROGRESS, TaskStatus.DONE), byNameDesc);
+  }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+
+class ArchiveDoneTasksUseCaseTest {
+  private static final Clock CLOCK =
+      Clock.fixed(Instant.parse("2024-07-01T00:00:00Z"), ZoneOffset.UTC);
+
+  @Test
+  void archivesChunkByChunkUntilAShortChunk() {
+    TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+    when(repo.archiveDone(any(), eq(100))).thenReturn(100, 100, 37);
+
+    int moved = new ArchiveDoneTasksUseCase(repo, CLOCK).execute(Duration.ofDays(30), 100);
+
+    assertEquals(237, moved);
+    // Same cutoff for every chunk: now minus the age
+    verify(repo, times(3)).archiveDone(OffsetDateTime.parse("2024-06-01T00:00:00Z"), 100);
+  }
+
+  @Test
+  void stopsAfterOneCallWhenNothingIsDue() {
+    TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+    when(repo.archiveDone(any(), anyInt())).thenReturn(0);
+
+    assertEquals(0, new ArchiveDoneTasksUseCase(repo, CLOCK).execute(Duration.ofDays(30), 100));
+    verify(repo, times(1)).archiveDone(any(), anyInt());
+  }
+
+  @Test
+  void rejectsNonPositiveChunkSize() {
+    TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new ArchiveDoneTasksUseCase(repo, CLOCK).execute(Duration.ofDays(1), 0));
+    verifyNoInteractions(repo);
+  }
+}
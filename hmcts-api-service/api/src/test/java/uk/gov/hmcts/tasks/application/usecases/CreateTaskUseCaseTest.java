@@ -1,14 +1,20 @@
 package uk.gov.hmcts.tasks.application.usecases;
 
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.errors.UnprocessableEntityException;
 import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
 import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
 
 import java.time.OffsetDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class CreateTaskUseCaseTest {
@@ -16,19 +22,94 @@ class CreateTaskUseCaseTest {
   IdempotencyStorePort idem = mock(IdempotencyStorePort.class);
   CreateTaskUseCase useCase = new CreateTaskUseCase(repo, idem);
 
+  {
+    when(idem.completeWith(any(), any())).thenCallRealMethod();
+  }
+
   @Test
   void creates_task_and_persists() {
-    when(idem.tryStore(any(), any())).thenReturn(true);
-    when(repo.save(any())).thenAnswer(inv -> inv.getArgument(0));
-    Task t = useCase.execute("Pay fine", "desc", OffsetDateTime.now(), "k1");
-    assertEquals("Pay fine", t.title());
-    verify(repo).save(any());
+    when(idem.claim(any(), any())).thenReturn(Optional.empty());
+    when(repo.insert(any())).thenAnswer(inv -> inv.getArgument(0));
+    CreateTaskUseCase.Created c = useCase.execute("Pay fine", "desc", OffsetDateTime.now(), "k1");
+    assertEquals("Pay fine", c.task().title());
+    assertFalse(c.replayed());
+    verify(repo).insert(any());
+    verify(idem).complete(eq("k1"), any(), eq(c.task().id()));
+  }
+
+  @Test
+  void retry_with_same_payload_replays_the_original_task_without_writing() {
+    OffsetDateTime due = OffsetDateTime.parse("2024-06-01T12:00:00Z");
+    String fp = CreateTaskUseCase.fingerprint("Pay fine", "desc", due);
+    TaskId original = TaskId.newId();
+    when(idem.claim("k1", fp)).thenReturn(Optional.of(new Stored(fp, original)));
+
+    CreateTaskUseCase.Created c = useCase.execute("Pay fine", "desc", due, "k1");
+
+    assertTrue(c.replayed());
+    assertEquals(original, c.task().id());
+    assertEquals(TaskStatus.OPEN, c.task().status());
+    assertEquals(due, c.task().dueAt());
+    verifyNoInteractions(repo);
+    verify(idem, never()).complete(any(), any(), any());
+  }
+
+  @Test
+  void same_key_with_different_payload_is_unprocessable() {
+    when(idem.claim(any(), any())).thenReturn(Optional.of(new Stored("other", TaskId.newId())));
+    assertThrows(UnprocessableEntityException.class,
+        () -> useCase.execute("X", null, null, "k1"));
+    verify(repo, never()).insert(any());
+  }
+
+  @Test
+  void retry_while_first_request_runs_is_a_conflict() {
+    String fp = CreateTaskUseCase.fingerprint("X", null, null);
+    when(idem.claim("k1", fp)).thenReturn(Optional.of(new Stored(fp, null)));
+    assertThrows(IllegalStateException.class, () -> useCase.execute("X", null, null, "k1"));
+    verify(repo, never()).insert(any());
   }
 
   @Test
-  void duplicate_idempotency_rejected() {
-    when(idem.tryStore(any(), any())).thenReturn(false);
+  void failed_insert_releases_the_key() {
+    when(idem.claim(any(), any())).thenReturn(Optional.empty());
+    when(repo.insert(any())).thenThrow(new IllegalStateException("db down"));
     assertThrows(IllegalStateException.class, () -> useCase.execute("X", null, null, "k1"));
-    verify(repo, never()).save(any());
+    verify(idem).release("k1");
+    verify(idem, never()).complete(any(), any(), any());
+  }
+
+  @Test
+  void complete_is_retried_once_after_the_task_is_written() {
+    when(idem.claim(any(), any())).thenReturn(Optional.empty());
+    when(repo.insert(any())).thenAnswer(inv -> inv.getArgument(0));
+    doThrow(new IllegalStateException("store down")).doNothing()
+        .when(idem).complete(any(), any(), any());
+
+    CreateTaskUseCase.Created c = useCase.execute("X", null, null, "k1");
+
+    verify(idem, times(2)).complete(eq("k1"), any(), eq(c.task().id()));
+    verify(idem, never()).release(any());
+  }
+
+  // The task exists, so the key must not be released (a retry would create it again): it stays
+  // in flight, and retries are answered 409 until it expires
+  @Test
+  void key_stays_in_flight_when_completing_keeps_failing() {
+    when(idem.claim(any(), any())).thenReturn(Optional.empty());
+    when(repo.insert(any())).thenAnswer(inv -> inv.getArgument(0));
+    doThrow(new IllegalStateException("store down")).when(idem).complete(any(), any(), any());
+
+    assertThrows(IllegalStateException.class, () -> useCase.execute("X", null, null, "k1"));
+
+    verify(repo).insert(any());
+    verify(idem, never()).release(any());
+  }
+
+  @Test
+  void no_key_means_no_store_access() {
+    when(repo.insert(any())).thenAnswer(inv -> inv.getArgument(0));
+    useCase.execute("X", null, null, null);
+    verifyNoInteractions(idem);
   }
 }
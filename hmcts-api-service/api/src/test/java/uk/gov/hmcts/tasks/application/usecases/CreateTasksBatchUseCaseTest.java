@@ -0,0 +1,118 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Item;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Outcome;
+import uk.gov.hmcts.tasks.application.usecases.CreateTasksBatchUseCase.Result;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CreateTasksBatchUseCaseTest {
+  TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+  IdempotencyStorePort idem = mock(IdempotencyStorePort.class);
+  CreateTasksBatchUseCase useCase = new CreateTasksBatchUseCase(repo, idem);
+
+  {
+    when(idem.completeWith(any(), any())).thenCallRealMethod();
+  }
+
+  @Test
+  void reports_each_item_and_inserts_accepted_ones_in_one_call() {
+    String fpC = CreateTaskUseCase.fingerprint("C", null, null);
+    String fpD = CreateTaskUseCase.fingerprint("D", null, null);
+    TaskId earlier = TaskId.newId();
+    when(idem.claimAll(any())).thenReturn(Map.of("running", new Stored(fpC, null),
+        "done", new Stored(fpD, earlier), "misused", new Stored(fpD, earlier)));
+
+    List<Result> results = useCase.execute(List.of(new Item("A", null, null, null),
+        new Item(" ", null, null, null), new Item("B", null, null, "new"),
+        new Item("C", null, null, "running"), new Item("D", null, null, "done"),
+        new Item("E", null, null, "misused")));
+
+    assertEquals(List.of(Outcome.CREATED, Outcome.INVALID, Outcome.CREATED, Outcome.DUPLICATE,
+        Outcome.REPLAYED, Outcome.INVALID), results.stream().map(Result::outcome).toList());
+    assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(Result::index).toList());
+    assertEquals(earlier, results.get(4).task().id());
+    List<Task> inserted = List.of(results.get(0).task(), results.get(2).task());
+    verify(repo, times(1)).insertAll(inserted);
+    verify(repo, never()).insert(any());
+    verify(idem).complete("new", CreateTaskUseCase.fingerprint("B", null, null),
+        results.get(2).task().id());
+    verify(idem, times(1)).complete(any(), any(), any());
+    verify(idem).claimAll(Map.of("new", CreateTaskUseCase.fingerprint("B", null, null),
+        "running", fpC, "done", fpD, "misused", CreateTaskUseCase.fingerprint("E", null, null)));
+    verify(idem, never()).claim(any(), any());
+  }
+
+  @Test
+  void a_key_repeated_in_the_batch_is_claimed_once_and_answered_as_a_retry() {
+    when(idem.claimAll(any())).thenReturn(Map.of());
+
+    List<Result> results = useCase.execute(List.of(new Item("A", null, null, "k1"),
+        new Item("A", null, null, "k1"), new Item("B", null, null, "k1")));
+
+    assertEquals(List.of(Outcome.CREATED, Outcome.DUPLICATE, Outcome.INVALID),
+        results.stream().map(Result::outcome).toList());
+    verify(idem).claimAll(Map.of("k1", CreateTaskUseCase.fingerprint("A", null, null)));
+    verify(repo).insertAll(List.of(results.get(0).task()));
+  }
+
+  @Test
+  void failed_insert_releases_every_key_it_claimed() {
+    when(idem.claimAll(any())).thenReturn(Map.of());
+    doThrow(new IllegalStateException("db down")).when(repo).insertAll(any());
+
+    assertThrows(IllegalStateException.class, () -> useCase.execute(List.of(
+        new Item("A", null, null, "k1"), new Item("B", null, null, "k2"))));
+
+    verify(idem).release("k1");
+    verify(idem).release("k2");
+    verify(idem, never()).complete(any(), any(), any());
+  }
+
+  @Test
+  void over_long_items_are_rejected_alone_and_their_keys_never_claimed() {
+    when(idem.claimAll(any())).thenReturn(Map.of());
+
+    List<Result> results = useCase.execute(List.of(new Item("A", null, null, "k1"),
+        new Item("x".repeat(ImportTasksUseCase.MAX_TITLE + 1), null, null, "k2"),
+        new Item("B", "d".repeat(ImportTasksUseCase.MAX_DESCRIPTION + 1), null, null),
+        new Item("C", null, null, null)));
+
+    assertEquals(List.of(Outcome.CREATED, Outcome.INVALID, Outcome.INVALID, Outcome.CREATED),
+        results.stream().map(Result::outcome).toList());
+    assertEquals("title longer than 255", results.get(1).error());
+    assertEquals("description longer than 2000", results.get(2).error());
+    verify(idem).claimAll(Map.of("k1", CreateTaskUseCase.fingerprint("A", null, null)));
+    verify(repo).insertAll(List.of(results.get(0).task(), results.get(3).task()));
+  }
+
+  @Test
+  void nothing_valid_means_no_insert() {
+    List<Result> results = useCase.execute(List.of(new Item(null, null, null, null)));
+    assertEquals(Outcome.INVALID, results.get(0).outcome());
+    verify(repo, never()).insertAll(any());
+    verifyNoInteractions(idem);
+  }
+
+  @Test
+  void rejects_oversized_batches() {
+    List<Item> items = Collections.nCopies(CreateTasksBatchUseCase.MAX_ITEMS + 1,
+        new Item("A", null, null, null));
+    assertThrows(BadRequestException.class, () -> useCase.execute(items));
+    verifyNoInteractions(repo);
+  }
+}
@@ -2,10 +2,10 @@ package uk.gov.hmcts.tasks.application.usecases;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
-import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
+import uk.gov.hmcts.tasks.application.ports.TaskChangesPort;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
 import uk.gov.hmcts.tasks.domain.*;
 
@@ -17,15 +17,15 @@ class DeleteTaskUseCaseTest {
         DeleteTaskUseCase useCase = new DeleteTaskUseCase(repo);
         String taskId = "123";
 
-        // Arrange: make the task "exist"
-        when(repo.findById(new TaskId(taskId)))
-                .thenReturn(Optional.of(Task.createNew("t", null, null)));
+        // Arrange: one row removed
+        when(repo.delete(new TaskId(taskId))).thenReturn(1);
 
         // Act
         useCase.execute(taskId);
 
-        // Assert: delete was called with the right id
+        // Assert: a single delete, no lookup first
         verify(repo, times(1)).delete(new TaskId(taskId));
+        verify(repo, never()).findById(any());
     }
 
     @Test
@@ -34,9 +34,23 @@ class DeleteTaskUseCaseTest {
         DeleteTaskUseCase useCase = new DeleteTaskUseCase(repo);
         String taskId = "missing-123";
 
-        when(repo.findById(new TaskId(taskId))).thenReturn(Optional.empty());
+        when(repo.delete(new TaskId(taskId))).thenReturn(0);
 
         assertThrows(NotFoundException.class, () -> useCase.execute(taskId));
-        verify(repo, never()).delete(any());
+        verify(repo, never()).findById(any());
+    }
+
+    @Test
+    void shouldReportOnlyDeletesThatHappened() {
+        TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+        TaskChangesPort changes = mock(TaskChangesPort.class);
+        DeleteTaskUseCase useCase = new DeleteTaskUseCase(repo, changes);
+        when(repo.delete(new TaskId("123"))).thenReturn(1);
+        when(repo.delete(new TaskId("missing-123"))).thenReturn(0);
+
+        useCase.execute("123");
+        assertThrows(NotFoundException.class, () -> useCase.execute("missing-123"));
+
+        verify(changes, times(1)).changed();
     }
 }
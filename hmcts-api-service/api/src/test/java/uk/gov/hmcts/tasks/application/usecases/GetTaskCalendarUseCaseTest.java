@@ -0,0 +1,62 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.DayStatusCount;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+class GetTaskCalendarUseCaseTest {
+  TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+  GetTaskCalendarUseCase uc = new GetTaskCalendarUseCase(repo);
+
+  LocalDate june1 = LocalDate.parse("2024-06-01");
+  LocalDate july1 = LocalDate.parse("2024-07-01");
+
+  @Test
+  void groups_counts_and_tasks_by_utc_day() {
+    LocalDate d3 = LocalDate.parse("2024-06-03");
+    LocalDate d9 = LocalDate.parse("2024-06-09");
+    when(repo.countByDueDay(june1, july1)).thenReturn(List.of(
+        new DayStatusCount(d9, TaskStatus.DONE, 1), new DayStatusCount(d3, TaskStatus.OPEN, 2),
+        new DayStatusCount(d3, TaskStatus.IN_PROGRESS, 5)));
+    // 23:30 at +02:00 is 21:30 UTC, still the 3rd
+    Task a = Task.createNew("a", null, OffsetDateTime.parse("2024-06-03T23:30:00+02:00"));
+    Task b = Task.createNew("b", null, OffsetDateTime.parse("2024-06-09T08:00:00Z"));
+    when(repo.findFirstPerDueDay(june1, july1, 2)).thenReturn(List.of(a, b));
+
+    TaskCalendar c = uc.execute(YearMonth.of(2024, 6), 2);
+
+    assertEquals(2, c.days().size());
+    TaskCalendar.Day first = c.days().get(0);
+    assertEquals(d3, first.date());
+    assertEquals(2L, first.counts().get(TaskStatus.OPEN));
+    assertEquals(5L, first.counts().get(TaskStatus.IN_PROGRESS));
+    assertEquals(0L, first.counts().get(TaskStatus.DONE));
+    assertEquals(7L, first.total());
+    assertEquals(List.of(a), first.tasks());
+    assertEquals(List.of(b), c.days().get(1).tasks());
+  }
+
+  @Test
+  void skips_task_query_when_no_summaries_requested() {
+    when(repo.countByDueDay(june1, july1))
+        .thenReturn(List.of(new DayStatusCount(june1, TaskStatus.OPEN, 1)));
+
+    TaskCalendar c = uc.execute(YearMonth.of(2024, 6), 0);
+
+    assertEquals(List.of(), c.days().get(0).tasks());
+    verify(repo, never()).findFirstPerDueDay(any(), any(), anyInt());
+  }
+}
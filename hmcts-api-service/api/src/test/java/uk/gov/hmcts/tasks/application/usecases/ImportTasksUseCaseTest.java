@@ -0,0 +1,70 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.TaskBulkLoadPort;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Row;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.RowError;
+import uk.gov.hmcts.tasks.application.usecases.ImportTasksUseCase.Summary;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportTasksUseCaseTest {
+  List<List<Task>> chunks = new ArrayList<>();
+  TaskBulkLoadPort loader = chunk -> chunks.add(List.copyOf(chunk));
+  ImportTasksUseCase useCase = new ImportTasksUseCase(loader);
+
+  private static Row row(long line, String title) {
+    return new Row(line, title, null, null, null, null);
+  }
+
+  @Test
+  void validates_each_row_and_reports_rejects_by_line() {
+    List<Row> rows = List.of(row(1, "ok"), row(2, " "),
+        new Row(3, "t", "d", "DONE", "2024-06-01T10:00:00Z", null),
+        new Row(4, "t", null, "CLOSED", null, null), new Row(5, "t", null, null, "tomorrow", null),
+        new Row(6, null, null, null, null, "malformed JSON"), row(7, "x".repeat(256)));
+
+    Summary s = useCase.execute(rows.iterator(), p -> fail("no full chunk"));
+
+    assertEquals(7, s.read());
+    assertEquals(2, s.imported());
+    assertEquals(5, s.rejected());
+    assertEquals(List.of(new RowError(2, "title required"),
+        new RowError(4, "invalid status 'CLOSED'"), new RowError(5, "invalid dueAt 'tomorrow'"),
+        new RowError(6, "malformed JSON"), new RowError(7, "title longer than 255")),
+        s.errors());
+    assertEquals(TaskStatus.DONE, chunks.get(0).get(1).status());
+  }
+
+  @Test
+  void writes_in_fixed_chunks_and_reports_progress_after_each() {
+    int n = ImportTasksUseCase.CHUNK_SIZE * 2 + 1;
+    List<Summary> progress = new ArrayList<>();
+
+    Summary s = useCase.execute(LongStream.rangeClosed(1, n).mapToObj(i -> row(i, "t" + i))
+        .iterator(), progress::add);
+
+    assertEquals(List.of(ImportTasksUseCase.CHUNK_SIZE, ImportTasksUseCase.CHUNK_SIZE, 1),
+        chunks.stream().map(List::size).toList());
+    assertEquals(List.of((long) ImportTasksUseCase.CHUNK_SIZE,
+        2L * ImportTasksUseCase.CHUNK_SIZE), progress.stream().map(Summary::imported).toList());
+    assertEquals(n, s.imported());
+  }
+
+  @Test
+  void caps_the_reported_errors() {
+    int n = ImportTasksUseCase.MAX_REPORTED_ERRORS + 5;
+    Summary s = useCase.execute(LongStream.rangeClosed(1, n).mapToObj(i -> row(i, ""))
+        .iterator(), p -> {
+        });
+    assertEquals(n, s.rejected());
+    assertEquals(ImportTasksUseCase.MAX_REPORTED_ERRORS, s.errors().size());
+    assertTrue(chunks.isEmpty());
+  }
+}
@@ -2,6 +2,9 @@ package uk.gov.hmcts.tasks.application.usecases;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
 import uk.gov.hmcts.tasks.application.strategy.TaskListingStrategy;
 import uk.gov.hmcts.tasks.domain.Task;
 import uk.gov.hmcts.tasks.domain.TaskId;
@@ -17,7 +20,7 @@ class ListTasksUseCaseTest {
   private static TaskListingStrategy stub(String name, int count) {
     return new TaskListingStrategy() {
       @Override
-      public List<Task> list(int page, int pageSize) {
+      public List<Task> list(TaskFilter filter, int page, int pageSize) {
         // return a list with 'count' dummy tasks so we can assert which strategy ran
         return java.util.stream.IntStream.range(0, count)
             .mapToObj(
@@ -25,6 +28,12 @@ class ListTasksUseCaseTest {
             .toList();
       }
 
+      @Override
+      public List<Task> listAfter(TaskFilter filter, TaskSeek after, int limit) {
+        // seek position is the repository's concern; cap at 'limit' like the real strategies
+        return list(filter, 1, limit).stream().limit(limit).toList();
+      }
+
       @Override
       public String name() {
         return name;
@@ -41,22 +50,50 @@ class ListTasksUseCaseTest {
     var uc = new ListTasksUseCase(Map.of(dueDate.name(), dueDate, status.name(), status));
 
     // explicit pick
-    var picked = uc.execute(1, 20, "status");
+    var picked = uc.execute(1, 20, "status", TaskFilter.NONE);
     assertEquals(2, picked.size(), "Should use 'status' strategy");
 
     // unknown -> default
-    var fallback = uc.execute(1, 20, "unknown");
+    var fallback = uc.execute(1, 20, "unknown", TaskFilter.NONE);
     assertEquals(1, fallback.size(), "Unknown key should default to 'dueDate'");
 
     // null -> default
-    var nullKey = uc.execute(1, 20, null);
+    var nullKey = uc.execute(1, 20, null, TaskFilter.NONE);
     assertEquals(1, nullKey.size(), "Null key should default to 'dueDate'");
 
     // blank -> default
-    var blankKey = uc.execute(1, 20, "   ");
+    var blankKey = uc.execute(1, 20, "   ", TaskFilter.NONE);
     assertEquals(1, blankKey.size(), "Blank key should default to 'dueDate'");
   }
 
+  @Test
+  @DisplayName("keyset page fetches one extra row to decide whether there is a next cursor")
+  void executeAfter_setsNextOnlyWhenMoreRowsExist() {
+    var dueDate = stub("dueDate", 3);
+    var uc = new ListTasksUseCase(Map.of(dueDate.name(), dueDate));
+
+    var first = uc.executeAfter(null, 2, "unknown", TaskFilter.NONE);
+    assertEquals(2, first.items().size());
+    assertEquals("dueDate", first.strategy(), "Resolved strategy is reported for the cursor");
+    assertEquals(TaskSeek.after(first.items().get(1)), first.next());
+
+    var last = uc.executeAfter(null, 3, "dueDate", null);
+    assertEquals(3, last.items().size());
+    assertNull(last.next(), "No next cursor when the page is not followed by more rows");
+  }
+
+  @Test
+  @DisplayName("rejects an empty or inverted due date range")
+  void rejectsInvertedDueRange() {
+    var dueDate = stub("dueDate", 1);
+    var uc = new ListTasksUseCase(Map.of(dueDate.name(), dueDate));
+    var day = java.time.OffsetDateTime.parse("2024-06-01T00:00:00Z");
+
+    assertThrows(BadRequestException.class,
+        () -> uc.execute(1, 20, "dueDate", new TaskFilter(null, day, day)));
+    assertEquals(1, uc.execute(1, 20, "dueDate", new TaskFilter(null, day, null)).size());
+  }
+
   @Test
   @DisplayName("constructor requires the default 'dueDate' strategy")
   void requiresDefaultStrategy() {
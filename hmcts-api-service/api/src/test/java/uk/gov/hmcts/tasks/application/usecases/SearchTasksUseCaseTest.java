@@ -0,0 +1,45 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSearchPort;
+import uk.gov.hmcts.tasks.domain.Task;
+
+class SearchTasksUseCaseTest {
+
+  @Test
+  void passesTrimmedQueryFilterAndPage() {
+    TaskSearchPort port = mock(TaskSearchPort.class);
+    Task t = Task.createNew("Renew licence", null, null);
+    when(port.search("licence", TaskFilter.NONE, 2, 10)).thenReturn(List.of(t));
+
+    assertEquals(List.of(t),
+        new SearchTasksUseCase(port).execute("  licence ", null, 2, 10));
+  }
+
+  @Test
+  void rejectsBlankOrOverlongQueries() {
+    TaskSearchPort port = mock(TaskSearchPort.class);
+    SearchTasksUseCase useCase = new SearchTasksUseCase(port);
+
+    assertThrows(BadRequestException.class, () -> useCase.execute("   ", null, 1, 20));
+    assertThrows(BadRequestException.class,
+        () -> useCase.execute("x".repeat(SearchTasksUseCase.MAX_QUERY_LENGTH + 1), null, 1, 20));
+    verifyNoInteractions(port);
+  }
+
+  @Test
+  void rejectsInvertedDueRange() {
+    TaskSearchPort port = mock(TaskSearchPort.class);
+    OffsetDateTime d = OffsetDateTime.parse("2024-06-01T00:00:00Z");
+
+    assertThrows(BadRequestException.class, () -> new SearchTasksUseCase(port)
+        .execute("licence", new TaskFilter(null, d, d), 1, 20));
+  }
+}
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.tasks.application.usecases;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.errors.BadRequestException;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
+import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusBatchUseCase.Batch;
+import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusBatchUseCase.Outcome;
+import uk.gov.hmcts.tasks.application.usecases.UpdateTaskStatusBatchUseCase.Result;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UpdateTaskStatusBatchUseCaseTest {
+  TaskRepositoryPort repo = mock(TaskRepositoryPort.class);
+  UpdateTaskStatusBatchUseCase useCase = new UpdateTaskStatusBatchUseCase(repo);
+
+  TaskId a = new TaskId("a"), b = new TaskId("b"), c = new TaskId("c"), d = new TaskId("d");
+
+  @Test
+  void classifies_set_wise_with_one_select_and_one_update() {
+    when(repo.findStatuses(List.of(a, b, c, d))).thenReturn(
+        Map.of(a, TaskStatus.IN_PROGRESS, b, TaskStatus.DONE, c, TaskStatus.OPEN));
+    when(repo.updateStatusAll(List.of(a), EnumSet.of(TaskStatus.IN_PROGRESS), TaskStatus.DONE))
+        .thenReturn(1);
+
+    Batch batch = useCase.execute(List.of("a", "b", "c", "d", "a"), TaskStatus.DONE);
+
+    assertEquals(List.of(new Result("a", Outcome.UPDATED, TaskStatus.DONE),
+        new Result("b", Outcome.UNCHANGED, TaskStatus.DONE),
+        new Result("c", Outcome.CONFLICT, TaskStatus.OPEN),
+        new Result("d", Outcome.NOT_FOUND, null)), batch.results());
+    verify(repo, times(1)).findStatuses(any());
+    verify(repo, times(1)).updateStatusAll(any(), any(), any());
+  }
+
+  @Test
+  void short_update_rereads_only_the_eligible_ids() {
+    Map<TaskId, TaskStatus> before = Map.of(a, TaskStatus.OPEN, b, TaskStatus.OPEN);
+    // b was deleted between the SELECT and the UPDATE
+    Map<TaskId, TaskStatus> after = Map.of(a, TaskStatus.IN_PROGRESS);
+    when(repo.findStatuses(List.of(a, b))).thenReturn(before).thenReturn(after);
+    when(repo.updateStatusAll(List.of(a, b), EnumSet.of(TaskStatus.OPEN),
+        TaskStatus.IN_PROGRESS)).thenReturn(1);
+
+    Batch batch = useCase.execute(List.of("a", "b"), TaskStatus.IN_PROGRESS);
+
+    assertEquals(List.of(Outcome.UPDATED, Outcome.NOT_FOUND),
+        batch.results().stream().map(Result::outcome).toList());
+    verify(repo, times(2)).findStatuses(List.of(a, b));
+  }
+
+  @Test
+  void filter_mode_only_selects_tasks_that_can_move_and_flags_more() {
+    Task t1 = Task.createNew("x", null, null).updateStatus(TaskStatus.IN_PROGRESS);
+    when(repo.findAll(eq(TaskSortOrder.DUE_DATE),
+        eq(new TaskFilter(TaskStatus.IN_PROGRESS, null, null)), eq(1), anyInt()))
+        .thenReturn(List.of(t1));
+    when(repo.updateStatusAll(List.of(t1.id()), EnumSet.of(TaskStatus.IN_PROGRESS),
+        TaskStatus.DONE)).thenReturn(1);
+
+    Batch batch = useCase.executeMatching(TaskFilter.NONE, TaskStatus.DONE);
+
+    assertEquals(Outcome.UPDATED, batch.results().get(0).outcome());
+    assertFalse(batch.hasMore());
+    verify(repo, never()).findStatuses(any());
+  }
+
+  @Test
+  void rejects_empty_id_list() {
+    assertThrows(BadRequestException.class, () -> useCase.execute(List.of(), TaskStatus.DONE));
+    verifyNoInteractions(repo);
+  }
+
+  // {"ids":[null]} must be a 400, not a NullPointerException from the id parsing
+  @Test
+  void rejects_null_ids() {
+    assertThrows(BadRequestException.class,
+        () -> useCase.execute(Arrays.asList("a", null), TaskStatus.DONE));
+    verifyNoInteractions(repo);
+  }
+}
@@ -1,15 +1,18 @@
 package uk.gov.hmcts.tasks.application.usecases;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.util.EnumSet;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.tasks.application.errors.NotFoundException;
+import uk.gov.hmcts.tasks.application.ports.TaskChangesPort;
 import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
 import uk.gov.hmcts.tasks.domain.Task;
 import uk.gov.hmcts.tasks.domain.TaskId;
@@ -20,35 +23,70 @@ class UpdateTaskStatusUseCaseTest {
   UpdateTaskStatusUseCase uc = new UpdateTaskStatusUseCase(repo);
 
   @Test
-  void updates_and_persists() {
-    Task existing = Task.createNew("t", null, null);
-    when(repo.findById(existing.id())).thenReturn(Optional.of(existing));
-    when(repo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+  void updates_with_one_conditional_statement() {
+    Task stored = Task.createNew("t", null, null).updateStatus(TaskStatus.IN_PROGRESS);
+    when(repo.updateStatus(stored.id(), EnumSet.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS))
+        .thenReturn(1);
+    when(repo.findById(stored.id())).thenReturn(Optional.of(stored));
 
-    Task updated = uc.execute(existing.id().value(), TaskStatus.IN_PROGRESS);
+    Task updated = uc.execute(stored.id().value(), TaskStatus.IN_PROGRESS);
     assertEquals(TaskStatus.IN_PROGRESS, updated.status());
-    verify(repo).save(any());
+  }
+
+  @Test
+  void reports_the_change_only_when_a_row_moved() {
+    TaskChangesPort changes = mock(TaskChangesPort.class);
+    UpdateTaskStatusUseCase notifying = new UpdateTaskStatusUseCase(repo, changes);
+    Task stored = Task.createNew("t", null, null).updateStatus(TaskStatus.IN_PROGRESS);
+    when(repo.updateStatus(any(), any(), any())).thenReturn(1, 0);
+    when(repo.findById(stored.id())).thenReturn(Optional.of(stored));
+
+    notifying.execute(stored.id().value(), TaskStatus.IN_PROGRESS);
+    notifying.execute(stored.id().value(), TaskStatus.IN_PROGRESS); // already there: no-op
+
+    verify(changes, times(1)).changed();
   }
 
   @Test
   void throws_when_not_found() {
     String id = "missing-123";
+    when(repo.updateStatus(any(), any(), any())).thenReturn(0);
     when(repo.findById(new TaskId(id))).thenReturn(Optional.empty());
 
-    assertThrows(NotFoundException.class, () -> uc.execute(id, TaskStatus.OPEN));
-    verify(repo, never()).save(any());
+    assertThrows(NotFoundException.class, () -> uc.execute(id, TaskStatus.IN_PROGRESS));
   }
 
   @Test
-  void illegal_transition_does_not_persist() {
-    // starts in OPEN
+  void illegal_transition_is_rejected_by_the_guard() {
+    // starts in OPEN; the UPDATE only matches IN_PROGRESS/DONE rows, so nothing changes
     Task existing = Task.createNew("t", null, null);
+    when(repo.updateStatus(existing.id(), EnumSet.of(TaskStatus.IN_PROGRESS), TaskStatus.DONE))
+        .thenReturn(0);
     when(repo.findById(existing.id())).thenReturn(Optional.of(existing));
 
     // OPEN -> DONE should throw per state machine
-    assertThrows(IllegalStateException.class,
+    IllegalStateException ex = assertThrows(IllegalStateException.class,
         () -> uc.execute(existing.id().value(), TaskStatus.DONE));
+    assertEquals("Cannot complete from OPEN", ex.getMessage());
+  }
+
+  @Test
+  void lost_race_is_a_conflict() {
+    // the row was OPEN when read back, yet the guarded UPDATE matched nothing
+    Task existing = Task.createNew("t", null, null);
+    when(repo.updateStatus(any(), any(), any())).thenReturn(0);
+    when(repo.findById(existing.id())).thenReturn(Optional.of(existing));
+
+    assertThrows(IllegalStateException.class,
+        () -> uc.execute(existing.id().value(), TaskStatus.IN_PROGRESS));
+  }
+
+  @Test
+  void same_status_is_a_no_op() {
+    Task existing = Task.createNew("t", null, null).updateStatus(TaskStatus.IN_PROGRESS);
+    when(repo.findById(existing.id())).thenReturn(Optional.of(existing));
 
-    verify(repo, never()).save(any());
+    assertSame(existing, uc.execute(existing.id().value(), TaskStatus.IN_PROGRESS));
+    verify(repo).updateStatus(existing.id(), EnumSet.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS);
   }
 }
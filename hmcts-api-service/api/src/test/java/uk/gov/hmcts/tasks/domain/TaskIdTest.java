@@ -0,0 +1,24 @@
+package uk.gov.hmcts.tasks.domain;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskIdTest {
+  @Test
+  void new_ids_are_version_7_uuids() {
+    UUID u = UUID.fromString(TaskId.newId().value());
+    assertEquals(7, u.version());
+    assertEquals(2, u.variant());
+  }
+
+  @Test
+  void ids_sort_by_creation_time() {
+    long now = System.currentTimeMillis();
+    String earlier = TaskId.v7(now).toString();
+    String later = TaskId.v7(now + 1).toString();
+    // canonical text order == byte order == what the database index sees
+    assertTrue(earlier.compareTo(later) < 0);
+    assertEquals(now, UUID.fromString(earlier).getMostSignificantBits() >>> 16);
+  }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.tasks.domain;
 
 import org.junit.jupiter.api.Test;
+import java.util.EnumSet;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 class TaskStateTest {
@@ -24,6 +26,34 @@ class TaskStateTest {
     assertThrows(IllegalStateException.class, () -> t.updateStatus(TaskStatus.DONE));
   }
 
+  @Test
+  void predecessors_follow_the_state_rules() {
+    assertEquals(EnumSet.of(TaskStatus.OPEN), Task.predecessorsOf(TaskStatus.IN_PROGRESS));
+    assertEquals(EnumSet.of(TaskStatus.IN_PROGRESS), Task.predecessorsOf(TaskStatus.DONE));
+    assertTrue(Task.predecessorsOf(TaskStatus.OPEN).isEmpty());
+  }
+
+  // The declared table must agree with what start()/complete() actually do
+  @Test
+  void targets_match_the_transitions() {
+    for (TaskStatus s : TaskStatus.values()) {
+      Task t = new Task(TaskId.newId(), "T", null, s, null);
+      Set<TaskStatus> reached = EnumSet.noneOf(TaskStatus.class);
+      for (TaskStatus to : TaskStatus.values()) {
+        try {
+          if (to != s && t.updateStatus(to).status() == to) {
+            reached.add(to);
+          }
+        } catch (IllegalStateException disallowed) {
+          // not a target
+        }
+      }
+      for (TaskStatus to : TaskStatus.values()) {
+        assertEquals(reached.contains(to), Task.predecessorsOf(to).contains(s), s + " -> " + to);
+      }
+    }
+  }
+
   @Test
   void title_required() {
     assertThrows(IllegalArgumentException.class, () -> Task.createNew("  ", null, null));
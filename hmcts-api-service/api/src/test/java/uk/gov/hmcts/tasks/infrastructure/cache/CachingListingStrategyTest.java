@@ -0,0 +1,174 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.strategy.TaskListingStrategy;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+import uk.gov.hmcts.tasks.infrastructure.replica.ReadYourWrites;
+
+class CachingListingStrategyTest {
+  private final TaskListingStrategy db = mock(TaskListingStrategy.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MutableClock clock = new MutableClock();
+  private final List<Task> page = List.of(Task.createNew("A", null, null));
+  private ListingPageCache cache;
+
+  private CachingListingStrategy strategy(int maxEntries) {
+    when(db.name()).thenReturn("dueDate");
+    cache = new ListingPageCache(maxEntries, Duration.ofSeconds(10), clock, registry);
+    return new CachingListingStrategy(db, cache);
+  }
+
+  @Test
+  void repeatedPageIsServedFromMemoryUntilAWrite() {
+    when(db.list(TaskFilter.NONE, 1, 20)).thenReturn(page);
+    CachingListingStrategy s = strategy(100);
+
+    assertEquals(page, s.list(TaskFilter.NONE, 1, 20));
+    assertEquals(page, s.list(TaskFilter.NONE, 1, 20));
+    verify(db, times(1)).list(TaskFilter.NONE, 1, 20);
+
+    cache.bump();
+    s.list(TaskFilter.NONE, 1, 20);
+
+    verify(db, times(2)).list(TaskFilter.NONE, 1, 20);
+    assertEquals(1, registry.counter("tasks.listing.cache.requests", "result", "hit").count());
+    assertEquals(2, registry.counter("tasks.listing.cache.requests", "result", "miss").count());
+    assertEquals(1, registry.counter("tasks.listing.cache.evictions", "cause", "write").count());
+  }
+
+  @Test
+  void filtersPagesAndSizesAreSeparateEntries() {
+    when(db.list(any(), anyInt(), anyInt())).thenReturn(page);
+    CachingListingStrategy s = strategy(100);
+    TaskFilter open = new TaskFilter(TaskStatus.OPEN, null, null);
+
+    s.list(TaskFilter.NONE, 1, 20);
+    s.list(open, 1, 20);
+    s.list(TaskFilter.NONE, 2, 20);
+    s.list(TaskFilter.NONE, 1, 50);
+    s.list(open, 1, 20);
+
+    verify(db, times(1)).list(open, 1, 20);
+    assertEquals(4, registry.get("tasks.listing.cache.size").gauge().value());
+  }
+
+  @Test
+  void pageReadWhileAWriteLandsIsNotKept() {
+    CachingListingStrategy s = strategy(100);
+    when(db.list(TaskFilter.NONE, 1, 20)).thenAnswer(inv -> {
+      cache.bump(); // commit + bump while the query runs
+      return page;
+    }).thenReturn(page);
+
+    s.list(TaskFilter.NONE, 1, 20);
+    s.list(TaskFilter.NONE, 1, 20);
+
+    verify(db, times(2)).list(TaskFilter.NONE, 1, 20);
+  }
+
+  @Test
+  void entriesExpireAfterTtl() {
+    when(db.list(TaskFilter.NONE, 1, 20)).thenReturn(page);
+    CachingListingStrategy s = strategy(100);
+
+    s.list(TaskFilter.NONE, 1, 20);
+    clock.now = clock.now.plusSeconds(11);
+    s.list(TaskFilter.NONE, 1, 20);
+
+    verify(db, times(2)).list(TaskFilter.NONE, 1, 20);
+    assertEquals(1, registry.counter("tasks.listing.cache.evictions", "cause", "expired").count());
+  }
+
+  @Test
+  void leastRecentlyUsedPageGoesFirst() {
+    when(db.list(any(), anyInt(), anyInt())).thenReturn(page);
+    CachingListingStrategy s = strategy(2);
+
+    s.list(TaskFilter.NONE, 1, 20);
+    s.list(TaskFilter.NONE, 2, 20);
+    s.list(TaskFilter.NONE, 1, 20); // page 1 now most recent
+    s.list(TaskFilter.NONE, 3, 20); // pushes out page 2
+    s.list(TaskFilter.NONE, 1, 20);
+    s.list(TaskFilter.NONE, 2, 20);
+
+    verify(db, times(1)).list(TaskFilter.NONE, 1, 20);
+    verify(db, times(2)).list(TaskFilter.NONE, 2, 20);
+    assertEquals(2, registry.counter("tasks.listing.cache.evictions", "cause", "size").count());
+  }
+
+  @Test
+  void pagesAreLoadedFromThePrimaryOnly() {
+    List<Boolean> pinned = new ArrayList<>();
+    when(db.list(TaskFilter.NONE, 1, 20)).thenAnswer(inv -> {
+      pinned.add(ReadYourWrites.isPinned());
+      return page;
+    });
+    CachingListingStrategy s = strategy(100);
+
+    s.list(TaskFilter.NONE, 1, 20);
+
+    assertEquals(List.of(true), pinned);
+    assertFalse(ReadYourWrites.isPinned()); // the caller's own state is restored
+  }
+
+  @Test
+  void pinnedRequestSkipsTheCache() {
+    when(db.list(TaskFilter.NONE, 1, 20)).thenReturn(page);
+    CachingListingStrategy s = strategy(100);
+    s.list(TaskFilter.NONE, 1, 20);
+
+    ReadYourWrites.pin();
+    try {
+      s.list(TaskFilter.NONE, 1, 20);
+      assertTrue(ReadYourWrites.isPinned());
+    } finally {
+      ReadYourWrites.clear();
+    }
+
+    verify(db, times(2)).list(TaskFilter.NONE, 1, 20);
+    assertEquals(0, registry.counter("tasks.listing.cache.requests", "result", "hit").count());
+  }
+
+  @Test
+  void cursorReadsAreNotCached() {
+    TaskSeek after = new TaskSeek(TaskStatus.OPEN, null, page.get(0).id().value());
+    when(db.listAfter(TaskFilter.NONE, after, 21)).thenReturn(page);
+    CachingListingStrategy s = strategy(100);
+
+    s.listAfter(TaskFilter.NONE, after, 21);
+    s.listAfter(TaskFilter.NONE, after, 21);
+
+    verify(db, times(2)).listAfter(TaskFilter.NONE, after, 21);
+    assertEquals(0, registry.get("tasks.listing.cache.size").gauge().value());
+  }
+
+  private static final class MutableClock extends Clock {
+    Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    public Instant instant() {
+      return now;
+    }
+  }
+}
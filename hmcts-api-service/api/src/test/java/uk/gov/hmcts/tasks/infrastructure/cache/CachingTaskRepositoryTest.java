@@ -0,0 +1,230 @@
+package uk.gov.hmcts.tasks.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+class CachingTaskRepositoryTest {
+  private final TaskRepositoryPort db = mock(TaskRepositoryPort.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MutableClock clock = new MutableClock();
+  private final Task task = Task.createNew("Title", null, null);
+  private final List<Map<TaskId, Long>> published = new ArrayList<>();
+  private TaskCache cache;
+
+  private CachingTaskRepository repo(int maxSize) {
+    cache = new TaskCache(maxSize, Duration.ofSeconds(60), clock, registry);
+    return new CachingTaskRepository(db, cache, published::add);
+  }
+
+  @Test
+  void secondLookupIsServedFromCache() {
+    when(db.findById(task.id())).thenReturn(Optional.of(task));
+    CachingTaskRepository repo = repo(100);
+
+    assertEquals(Optional.of(task), repo.findById(task.id()));
+    assertEquals(Optional.of(task), repo.findById(task.id()));
+
+    verify(db, times(1)).findById(task.id());
+    assertEquals(1, registry.counter("tasks.cache.requests", "result", "hit").count());
+    assertEquals(1, registry.counter("tasks.cache.requests", "result", "miss").count());
+    assertEquals(1, registry.get("tasks.cache.size").gauge().value());
+  }
+
+  @Test
+  void missingTasksAreNotCached() {
+    TaskId id = TaskId.newId();
+    when(db.findById(id)).thenReturn(Optional.empty());
+    CachingTaskRepository repo = repo(100);
+
+    repo.findById(id);
+    repo.findById(id);
+
+    verify(db, times(2)).findById(id);
+  }
+
+  @Test
+  void entriesExpireAfterTtl() {
+    when(db.findById(task.id())).thenReturn(Optional.of(task));
+    CachingTaskRepository repo = repo(100);
+
+    repo.findById(task.id());
+    clock.now = clock.now.plusSeconds(61);
+    repo.findById(task.id());
+
+    verify(db, times(2)).findById(task.id());
+    assertEquals(1, registry.counter("tasks.cache.evictions", "cause", "expired").count());
+  }
+
+  @Test
+  void sizeIsBoundedPerSegment() {
+    when(db.findById(any())).thenAnswer(i -> Optional.of(
+        new Task(i.getArgument(0), "t", null, TaskStatus.OPEN, null)));
+    CachingTaskRepository repo = repo(TaskCache.SEGMENTS); // one entry per segment
+
+    for (int i = 0; i < 200; i++) {
+      repo.findById(TaskId.newId());
+    }
+
+    assertTrue(registry.get("tasks.cache.size").gauge().value() <= TaskCache.SEGMENTS);
+    assertTrue(registry.counter("tasks.cache.evictions", "cause", "size").count()
+        >= 200 - TaskCache.SEGMENTS);
+  }
+
+  @Test
+  void writesInvalidateTheIdsTheyTouch() {
+    Task done = task.updateStatus(TaskStatus.IN_PROGRESS);
+    when(db.findById(task.id())).thenReturn(Optional.of(task)).thenReturn(Optional.of(done))
+        .thenReturn(Optional.of(done)).thenReturn(Optional.empty());
+    CachingTaskRepository repo = repo(100);
+
+    repo.findById(task.id());
+    repo.updateStatus(task.id(), Set.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS);
+    assertEquals(TaskStatus.IN_PROGRESS, repo.findById(task.id()).orElseThrow().status());
+
+    repo.updateStatusAll(List.of(task.id()), Set.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS);
+    repo.findById(task.id());
+    repo.delete(task.id());
+    assertEquals(Optional.empty(), repo.findById(task.id()));
+    verify(db, times(4)).findById(task.id());
+  }
+
+  @Test
+  void loadRacingAnInvalidationIsNotCached() {
+    CachingTaskRepository[] holder = new CachingTaskRepository[1];
+    // The write lands (and invalidates) while the read is still in flight
+    when(db.findById(task.id())).thenAnswer(i -> {
+      holder[0].delete(task.id());
+      return Optional.of(task);
+    }).thenReturn(Optional.empty());
+    holder[0] = repo(100);
+
+    holder[0].findById(task.id());
+
+    assertEquals(Optional.empty(), holder[0].findById(task.id()));
+  }
+
+  @Test
+  void writesAnnounceTheVersionTheyProduced() {
+    TaskId other = TaskId.newId();
+    when(db.updateStatus(any(), any(), any())).thenReturn(1);
+    when(db.updateStatusAll(any(), any(), any())).thenReturn(2);
+    when(db.delete(task.id())).thenReturn(1);
+    when(db.findVersions(List.of(task.id()))).thenReturn(Map.of(task.id(), 3L));
+    when(db.findVersions(List.of(task.id(), other)))
+        .thenReturn(Map.of(task.id(), 4L, other, 1L));
+    CachingTaskRepository repo = repo(100);
+
+    repo.updateStatus(task.id(), Set.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS);
+    repo.updateStatusAll(List.of(task.id(), other), Set.of(TaskStatus.IN_PROGRESS),
+        TaskStatus.DONE);
+    repo.delete(task.id());
+
+    assertEquals(List.of(Map.of(task.id(), 3L), Map.of(task.id(), 4L, other, 1L),
+        Map.of(task.id(), TaskInvalidationBus.DELETED)), published);
+  }
+
+  @Test
+  void writesThatChangeNothingAnnounceNothing() {
+    CachingTaskRepository repo = repo(100);
+
+    repo.updateStatus(task.id(), Set.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS);
+    repo.delete(task.id());
+
+    assertTrue(published.isEmpty());
+    verify(db, never()).findVersions(any());
+  }
+
+  @Test
+  void remoteInvalidationOlderThanTheCachedCopyIsIgnored() {
+    Task v5 = new Task(task.id(), "Title", null, TaskStatus.OPEN, null, 5);
+    when(db.findById(task.id())).thenReturn(Optional.of(v5));
+    CachingTaskRepository repo = repo(100);
+    repo.findById(task.id());
+
+    assertFalse(cache.invalidate(task.id(), 4)); // arrived late
+    repo.findById(task.id());
+    assertTrue(cache.invalidate(task.id(), 6));
+    repo.findById(task.id());
+
+    verify(db, times(2)).findById(task.id());
+    assertEquals(1, registry.counter("tasks.cache.invalidations", "result", "ignored").count());
+    assertEquals(1, registry.counter("tasks.cache.invalidations", "result", "applied").count());
+  }
+
+  @Test
+  void copyOlderThanAnAnnouncedWriteIsNotCached() {
+    // e.g. read from a replica that has not caught up with version 6 yet
+    Task v5 = new Task(task.id(), "Title", null, TaskStatus.OPEN, null, 5);
+    when(db.findById(task.id())).thenReturn(Optional.of(v5));
+    CachingTaskRepository repo = repo(100);
+
+    cache.invalidate(task.id(), 6);
+    repo.findById(task.id());
+    repo.findById(task.id());
+
+    verify(db, times(2)).findById(task.id());
+  }
+
+  @Test
+  void replicaCopyFromBeforeALocalWriteIsNotCached() {
+    Task v1 = new Task(task.id(), "Title", null, TaskStatus.OPEN, null, 1);
+    when(db.updateStatus(any(), any(), any())).thenReturn(1);
+    when(db.findVersions(List.of(task.id()))).thenReturn(Map.of(task.id(), 2L));
+    when(db.findById(task.id())).thenReturn(Optional.of(v1)); // lagging replica
+    CachingTaskRepository repo = repo(100);
+
+    repo.updateStatus(task.id(), Set.of(TaskStatus.OPEN), TaskStatus.IN_PROGRESS);
+    repo.findById(task.id());
+    repo.findById(task.id());
+
+    verify(db, times(2)).findById(task.id());
+    assertEquals(0, registry.counter("tasks.cache.invalidations", "result", "applied").count());
+  }
+
+  @Test
+  void deletedTaskStillOnAReplicaIsNotCached() {
+    when(db.delete(task.id())).thenReturn(1);
+    when(db.findById(task.id())).thenReturn(Optional.of(task));
+    CachingTaskRepository repo = repo(100);
+
+    repo.delete(task.id());
+    repo.findById(task.id());
+    repo.findById(task.id());
+
+    verify(db, times(2)).findById(task.id());
+  }
+
+  private static final class MutableClock extends Clock {
+    Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    public Instant instant() {
+      return now;
+    }
+  }
+}
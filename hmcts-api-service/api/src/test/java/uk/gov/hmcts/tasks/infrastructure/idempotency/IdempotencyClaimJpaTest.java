@@ -0,0 +1,184 @@
+package uk.gov.hmcts.tasks.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Claim;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.infrastructure.persistence.TaskRepositoryAdapter;
+
+// The MERGE claim on H2, committed for real (no test transaction) so racing claims contend.
+// The Postgres INSERT ... ON CONFLICT variant is covered by PostgresIntegrationTest.
+@DataJpaTest
+@Import(TaskRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyClaimJpaTest {
+  static final Duration TTL = Duration.ofHours(24);
+
+  @TestConfiguration
+  static class Store {
+    @Bean
+    IdempotencyStoreAdapter store(IdempotencyRepo repo, NamedParameterJdbcTemplate jdbc,
+        PlatformTransactionManager txManager) {
+      return new IdempotencyStoreAdapter(repo, jdbc, new TransactionTemplate(txManager),
+          IdempotencyStoreAdapter.Dialect.MERGE, TTL, Clock.systemUTC());
+    }
+  }
+
+  @Autowired
+  IdempotencyStoreAdapter store;
+
+  @Autowired
+  IdempotencyRepo repo;
+
+  @Autowired
+  TaskRepositoryAdapter tasks;
+
+  @BeforeEach
+  void empty() {
+    repo.deleteAll();
+  }
+
+  @Test
+  void claimCompleteReplay() {
+    TaskId id = TaskId.newId();
+
+    assertEquals(Optional.empty(), store.claim("k1", "fp"));
+    assertEquals(Optional.of(new Stored("fp", null)), store.claim("k1", "fp"));
+    store.complete("k1", "fp", id);
+
+    assertEquals(Optional.of(new Stored("fp", id)), store.claim("k1", "other"));
+  }
+
+  @Test
+  void completionCommitsWithTheTask() {
+    Task t = Task.createNew("T", null, null);
+    store.claim("k1", "fp");
+
+    store.completeWith(List.of(new Claim("k1", "fp", t.id())), () -> tasks.insert(t));
+
+    assertTrue(tasks.findById(t.id()).isPresent());
+    assertEquals(Optional.of(new Stored("fp", t.id())), store.claim("k1", "fp"));
+  }
+
+  @Test
+  void failedWriteRollsBackTheCompletionAndFreesTheKey() {
+    Task t = Task.createNew("T", null, null);
+    store.claim("k1", "fp");
+
+    assertThrows(IllegalStateException.class,
+        () -> store.completeWith(List.of(new Claim("k1", "fp", t.id())), () -> {
+          tasks.insert(t);
+          throw new IllegalStateException("after the insert");
+        }));
+
+    assertTrue(tasks.findById(t.id()).isEmpty());
+    assertEquals(Optional.empty(), store.claim("k1", "fp"));
+  }
+
+  // The documented window: a claim whose request died before completing answers "in flight"
+  // (409) to every retry until it is ttl old, and is then taken over
+  @Test
+  void abandonedClaimIsInFlightUntilItsTtl() {
+    store.claim("k1", "fp");
+    assertEquals(Optional.of(new Stored("fp", null)), store.claim("k1", "fp"));
+
+    IdempotencyEntry e = repo.findById("k1").orElseThrow();
+    e.createdAt = OffsetDateTime.now().minus(TTL).minusMinutes(1);
+    repo.save(e);
+    assertEquals(Optional.empty(), store.claim("k1", "fp"));
+  }
+
+  @Test
+  void expiredRowIsTakenOverInPlace() {
+    IdempotencyEntry old = new IdempotencyEntry();
+    old.key = "k1";
+    old.fingerprint = "old-fp";
+    old.taskId = TaskId.newId().value();
+    old.createdAt = OffsetDateTime.now().minus(TTL).minusMinutes(1);
+    repo.save(old);
+
+    assertEquals(Optional.empty(), store.claim("k1", "new-fp"));
+
+    IdempotencyEntry now = repo.findById("k1").orElseThrow();
+    assertEquals("new-fp", now.fingerprint);
+    assertNull(now.taskId);
+    assertTrue(now.createdAt.isAfter(OffsetDateTime.now().minusMinutes(1)));
+  }
+
+  @Test
+  void batchClaimTakesFreeAndExpiredKeysAndReportsLiveOnes() {
+    TaskId done = TaskId.newId();
+    store.claim("live", "live-fp");
+    store.claim("done", "done-fp");
+    store.complete("done", "done-fp", done);
+    IdempotencyEntry old = new IdempotencyEntry();
+    old.key = "old";
+    old.fingerprint = "old-fp";
+    old.createdAt = OffsetDateTime.now().minus(TTL).minusMinutes(1);
+    repo.save(old);
+
+    Map<String, Stored> held = store.claimAll(Map.of("new", "fp", "old", "fp", "live", "fp",
+        "done", "fp"));
+
+    assertEquals(Map.of("live", new Stored("live-fp", null), "done", new Stored("done-fp", done)),
+        held);
+    assertEquals("fp", repo.findById("new").orElseThrow().fingerprint);
+    assertEquals("fp", repo.findById("old").orElseThrow().fingerprint);
+    assertEquals(Optional.of(new Stored("fp", null)), store.claim("new", "fp"));
+  }
+
+  @Test
+  void racingClaimsOfOneKeyHaveExactlyOneWinner() throws Exception {
+    assertEquals(1, race(store, "race", 32));
+    assertEquals(1, repo.count());
+  }
+
+  // Claims 'key' from n threads released together; returns how many won. Any exception fails.
+  static int race(IdempotencyStoreAdapter store, String key, int n) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(n);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Optional<Stored>>> claims = new ArrayList<>();
+      for (int i = 0; i < n; i++) {
+        claims.add(pool.submit(() -> {
+          start.await();
+          return store.claim(key, "fp");
+        }));
+      }
+      start.countDown();
+      int winners = 0;
+      for (Future<Optional<Stored>> f : claims) {
+        winners += f.get(30, TimeUnit.SECONDS).isEmpty() ? 1 : 0;
+      }
+      return winners;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.tasks.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+class IdempotencyMemoryStoreTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MutableClock clock = new MutableClock();
+
+  private IdempotencyMemoryStore store(int maxEntries) {
+    return new IdempotencyMemoryStore(maxEntries, Duration.ofHours(24), clock, registry);
+  }
+
+  @Test
+  void claimThenCompleteThenReplay() {
+    IdempotencyMemoryStore s = store(100);
+    TaskId id = TaskId.newId();
+
+    assertEquals(Optional.empty(), s.claim("k1", "fp"));
+    assertEquals(Optional.of(new Stored("fp", null)), s.claim("k1", "fp")); // in flight
+    s.complete("k1", "fp", id);
+
+    assertEquals(Optional.of(new Stored("fp", id)), s.claim("k1", "other"));
+    assertEquals(1, registry.counter("idempotency.memory.claims", "result", "claimed").count());
+    assertEquals(2, registry.counter("idempotency.memory.claims", "result", "held").count());
+  }
+
+  @Test
+  void releasedKeyCanBeClaimedAgain() {
+    IdempotencyMemoryStore s = store(100);
+    s.claim("k1", "fp");
+    s.release("k1");
+
+    assertEquals(Optional.empty(), s.claim("k1", "fp"));
+  }
+
+  @Test
+  void keyExpiresTtlAfterItsClaimNotItsCompletion() {
+    IdempotencyMemoryStore s = store(100);
+    s.claim("k1", "fp");
+    clock.now = clock.now.plus(Duration.ofHours(23));
+    s.complete("k1", "fp", TaskId.newId());
+    clock.now = clock.now.plus(Duration.ofHours(2));
+
+    assertEquals(Optional.empty(), s.claim("k1", "new-fp"));
+    assertEquals(1, registry.counter("idempotency.memory.evictions", "cause", "expired").count());
+    assertEquals(1, s.size());
+  }
+
+  @Test
+  void fullSegmentDropsItsOldestClaim() {
+    // One entry per segment: a second key in the same segment pushes the first out
+    IdempotencyMemoryStore s = store(IdempotencyMemoryStore.SEGMENTS);
+    String first = "k0";
+    String second = sameSegmentAs(first);
+    s.claim(first, "fp");
+    s.claim(second, "fp");
+
+    assertEquals(Optional.empty(), s.claim(first, "fp"));
+    assertEquals(2, registry.counter("idempotency.memory.evictions", "cause", "size").count());
+    assertEquals(1.0, registry.get("idempotency.memory.size").gauge().value());
+  }
+
+  @Test
+  void concurrentClaimsOfOneKeyHaveOneWinner() throws Exception {
+    IdempotencyMemoryStore s = store(100);
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Optional<Stored>>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        results.add(pool.submit(() -> s.claim("k1", "fp")));
+      }
+      int winners = 0;
+      for (Future<Optional<Stored>> f : results) {
+        winners += f.get(5, TimeUnit.SECONDS).isEmpty() ? 1 : 0;
+      }
+      assertEquals(1, winners);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static String sameSegmentAs(String key) {
+    int target = segmentOf(key);
+    for (int i = 1; ; i++) {
+      if (segmentOf("k" + i) == target) {
+        return "k" + i;
+      }
+    }
+  }
+
+  private static int segmentOf(String key) {
+    int h = key.hashCode();
+    return (h ^ (h >>> 16)) & (IdempotencyMemoryStore.SEGMENTS - 1);
+  }
+
+  private static final class MutableClock extends Clock {
+    Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    public Instant instant() {
+      return now;
+    }
+  }
+}
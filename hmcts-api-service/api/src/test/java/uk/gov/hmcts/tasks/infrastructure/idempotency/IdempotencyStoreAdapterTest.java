@@ -0,0 +1,108 @@
+package uk.gov.hmcts.tasks.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+class IdempotencyStoreAdapterTest {
+  private static final Instant NOW = Instant.parse("2024-06-02T00:00:00Z");
+  private static final Duration TTL = Duration.ofHours(24);
+
+  private final IdempotencyRepo repo = mock(IdempotencyRepo.class);
+  private final NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+  private final IdempotencyStoreAdapter store = new IdempotencyStoreAdapter(repo, jdbc,
+      TransactionOperations.withoutTransaction(), IdempotencyStoreAdapter.Dialect.POSTGRES, TTL,
+      Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @SuppressWarnings("unchecked")
+  private void held(List<Stored> rows) {
+    when(jdbc.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+        .thenReturn(rows);
+  }
+
+  @Test
+  void freshKeyIsClaimedInOneStatement() {
+    when(jdbc.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+
+    assertEquals(Optional.empty(), store.claim("k1", "fp"));
+
+    ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+    verify(jdbc).update(contains("ON CONFLICT"), params.capture());
+    assertEquals("fp", params.getValue().getValue("fingerprint"));
+    assertEquals(NOW, ((OffsetDateTime) params.getValue().getValue("now")).toInstant());
+    assertEquals(NOW.minus(TTL),
+        ((OffsetDateTime) params.getValue().getValue("before")).toInstant());
+    verifyNoMoreInteractions(jdbc);
+    verifyNoInteractions(repo);
+  }
+
+  @Test
+  void liveKeyReturnsWhatItHolds() {
+    TaskId id = TaskId.newId();
+    when(jdbc.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+    held(List.of(new Stored("fp", id)));
+
+    assertEquals(Optional.of(new Stored("fp", id)), store.claim("k1", "other"));
+  }
+
+  @Test
+  void losingAnInsertRaceReadsTheWinner() {
+    when(jdbc.update(anyString(), any(SqlParameterSource.class)))
+        .thenThrow(new DuplicateKeyException("id_key"));
+    held(List.of(new Stored("fp", null)));
+
+    assertEquals(Optional.of(new Stored("fp", null)), store.claim("k1", "fp"));
+  }
+
+  @Test
+  void holderGoneBeforeTheReadIsClaimedAgain() {
+    when(jdbc.update(anyString(), any(SqlParameterSource.class))).thenReturn(0, 1);
+    held(List.of());
+
+    assertEquals(Optional.empty(), store.claim("k1", "fp"));
+    verify(jdbc, times(2)).update(anyString(), any(SqlParameterSource.class));
+  }
+
+  @Test
+  void sweepDeletesInBatchesUntilAShortOne() {
+    OffsetDateTime cutoff = OffsetDateTime.ofInstant(NOW.minus(TTL), ZoneOffset.UTC);
+    when(repo.findExpired(cutoff, Limit.of(2)))
+        .thenReturn(List.of("a", "b")).thenReturn(List.of("c", "d")).thenReturn(List.of("e"));
+    when(repo.deleteExpired(any(), eq(cutoff))).thenReturn(2, 1, 1);
+
+    assertEquals(4, store.sweepExpired(2)); // one of c/d was reclaimed in between
+
+    verify(repo).deleteExpired(List.of("a", "b"), cutoff);
+    verify(repo).deleteExpired(List.of("c", "d"), cutoff);
+    verify(repo).deleteExpired(List.of("e"), cutoff);
+  }
+
+  @Test
+  void sweepWithNothingExpiredDeletesNothing() {
+    when(repo.findExpired(any(), any())).thenReturn(List.of());
+
+    assertEquals(0, store.sweepExpired(500));
+    verify(repo, never()).deleteExpired(any(), any());
+  }
+}
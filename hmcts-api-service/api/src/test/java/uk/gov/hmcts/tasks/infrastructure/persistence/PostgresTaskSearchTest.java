@@ -0,0 +1,32 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+// The SQL itself runs against Postgres in PostgresIntegrationTest
+class PostgresTaskSearchTest {
+  private final PostgresTaskSearch search =
+      new PostgresTaskSearch(mock(NamedParameterJdbcTemplate.class));
+
+  private Object like(String query) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    search.clause(query, params);
+    return params.getValue("like");
+  }
+
+  @Test
+  void titleSubstringForQueriesOfATrigramOrMore() {
+    assertEquals("%INV-20%", like("INV-20"));
+    assertEquals("%abc%", like("abc"));
+  }
+
+  @Test
+  void shortQueriesMatchTitlePrefixes() {
+    assertEquals("ab%", like("ab"));
+    assertEquals("\\%%", like("%"));
+  }
+}
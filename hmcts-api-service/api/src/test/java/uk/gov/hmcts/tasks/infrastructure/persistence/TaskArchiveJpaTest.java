@@ -0,0 +1,81 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+// The real INSERT ... SELECT / DELETE pair and the archive fallbacks, on the Flyway schema
+@DataJpaTest
+@Import(TaskRepositoryAdapter.class)
+class TaskArchiveJpaTest {
+  private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+  @Autowired
+  TaskRepositoryAdapter tasks;
+
+  @Autowired
+  EntityManager em;
+
+  private Task stored(String title, TaskStatus status, int daysIdle) {
+    Task t = tasks.insert(new Task(TaskId.newId(), title, "d", status, NOW.plusDays(1)));
+    em.flush();
+    em.createNativeQuery("UPDATE tasks SET updated_at = :at WHERE id_key = :id")
+        .setParameter("at", NOW.minusDays(daysIdle))
+        .setParameter("id", UUID.fromString(t.id().value()))
+        .executeUpdate();
+    em.clear();
+    return t;
+  }
+
+  @Test
+  void idleDoneTasksMoveOldestFirstAndStayReadableById() {
+    Task oldest = stored("oldest", TaskStatus.DONE, 40);
+    Task older = stored("older", TaskStatus.DONE, 35);
+    Task recent = stored("recent", TaskStatus.DONE, 1);
+    Task open = stored("open", TaskStatus.OPEN, 40);
+    OffsetDateTime cutoff = NOW.minusDays(30);
+
+    assertEquals(1, tasks.archiveDone(cutoff, 1));
+    assertNotNull(em.find(TaskArchiveJpaEntity.class, UUID.fromString(oldest.id().value())));
+    assertEquals(1, tasks.archiveDone(cutoff, 10));
+    assertEquals(0, tasks.archiveDone(cutoff, 10));
+    em.clear();
+
+    Set<String> live = tasks.findAll(TaskSortOrder.DUE_DATE, TaskFilter.NONE, 1, 10).stream()
+        .map(Task::title).collect(Collectors.toSet());
+    assertEquals(Set.of("recent", "open"), live);
+    assertEquals(2, tasks.count(TaskFilter.NONE));
+
+    Task fromArchive = tasks.findById(oldest.id()).orElseThrow();
+    assertEquals("oldest", fromArchive.title());
+    assertEquals("d", fromArchive.description());
+    assertEquals(TaskStatus.DONE, fromArchive.status());
+    assertTrue(tasks.findById(older.id()).isPresent());
+    assertTrue(tasks.findById(recent.id()).isPresent());
+    assertTrue(tasks.findById(open.id()).isPresent());
+  }
+
+  @Test
+  void deleteFallsBackToTheArchive() {
+    Task done = stored("done", TaskStatus.DONE, 40);
+    tasks.archiveDone(NOW.minusDays(30), 10);
+    em.clear();
+
+    assertEquals(1, tasks.delete(done.id()));
+    assertTrue(tasks.findById(done.id()).isEmpty());
+    assertEquals(0, tasks.delete(done.id()));
+  }
+}
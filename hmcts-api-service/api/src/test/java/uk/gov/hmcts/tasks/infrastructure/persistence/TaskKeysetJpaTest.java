@@ -0,0 +1,66 @@
+package uk.gov.hmcts.tasks.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskSeek;
+import uk.gov.hmcts.tasks.application.ports.TaskSortOrder;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+
+// Walking every page by seek must give exactly the offset listing, through due-date ties, status
+// boundaries and the NULL tail. Postgres null ordering, as in the test profile.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url="
+    + "jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DEFAULT_NULL_ORDERING=HIGH")
+@Import(TaskRepositoryAdapter.class)
+class TaskKeysetJpaTest {
+  private static final OffsetDateTime DAY = OffsetDateTime.parse("2024-06-01T09:00:00Z");
+
+  @Autowired
+  TaskRepositoryAdapter tasks;
+
+  @BeforeEach
+  void rows() {
+    TaskStatus[] statuses = TaskStatus.values();
+    for (int i = 0; i < 24; i++) {
+      OffsetDateTime due = i % 5 == 0 ? null : DAY.plusDays(i % 3); // ties and NULLs
+      tasks.insert(new Task(TaskId.newId(), "t" + i, null, statuses[i % statuses.length], due));
+    }
+  }
+
+  @Test
+  void seekPagesMatchTheDueDateListing() {
+    assertEquals(tasks.findAll(TaskSortOrder.DUE_DATE, TaskFilter.NONE, 1, 100),
+        walk(TaskSortOrder.DUE_DATE, 4));
+  }
+
+  @Test
+  void seekPagesMatchTheStatusListing() {
+    assertEquals(tasks.findAll(TaskSortOrder.STATUS, TaskFilter.NONE, 1, 100),
+        walk(TaskSortOrder.STATUS, 3));
+  }
+
+  private List<Task> walk(TaskSortOrder order, int pageSize) {
+    List<Task> all = new ArrayList<>();
+    List<Task> page = tasks.findAll(order, TaskFilter.NONE, 1, pageSize);
+    while (!page.isEmpty()) {
+      all.addAll(page);
+      TaskSeek seek = TaskSeek.after(page.get(page.size() - 1));
+      page = tasks.findAfter(order, TaskFilter.NONE, seek, pageSize);
+    }
+    return all;
+  }
+}
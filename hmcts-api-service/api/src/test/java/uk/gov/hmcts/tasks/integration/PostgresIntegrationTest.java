@@ -10,10 +10,38 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.tasks.application.ports.IdempotencyStorePort.Stored;
+import org.springframework.dao.DataAccessException;
+import uk.gov.hmcts.tasks.application.ports.TaskBulkLoadPort;
+import uk.gov.hmcts.tasks.application.ports.TaskFilter;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.application.ports.TaskSearchPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskId;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+import uk.gov.hmcts.tasks.infrastructure.idempotency.IdempotencyStoreAdapter;
+import uk.gov.hmcts.tasks.infrastructure.persistence.PostgresCopyTaskLoader;
+import uk.gov.hmcts.tasks.infrastructure.persistence.PostgresTaskSearch;
 import uk.gov.hmcts.tasks.infrastructure.persistence.TaskJpaRepository;
 import uk.gov.hmcts.tasks.infrastructure.persistence.TaskJpaEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Testcontainers
 @SpringBootTest
@@ -36,11 +64,153 @@ class PostgresIntegrationTest {
 
   @Test
   void saves_and_reads() {
-    TaskJpaEntity e = new TaskJpaEntity();
-    e.setId("x");
+    UUID id = UUID.fromString(TaskId.newId().value());
+    TaskJpaEntity e = TaskJpaEntity.newRow();
+    e.setId(id);
     e.setTitle("t");
     e.setStatus("OPEN");
     repo.save(e);
-    assertThat(repo.findById("x")).isPresent();
+    assertThat(repo.findById(id)).isPresent();
+  }
+
+  @Autowired
+  TaskBulkLoadPort loader;
+
+  @Autowired
+  TaskRepositoryPort tasks;
+
+  @Test
+  void import_chunks_are_copied_in() {
+    assertThat(loader).isInstanceOf(PostgresCopyTaskLoader.class);
+    Task quoted = new Task(TaskId.newId(), "Say \"hi\", then\nleave", "", TaskStatus.DONE, null);
+    Task dated = Task.createNew("plain", "desc", OffsetDateTime.parse("2024-06-01T09:00:00Z"));
+
+    loader.load(List.of(quoted, dated));
+
+    Task q = tasks.findById(quoted.id()).orElseThrow();
+    assertThat(q.title()).isEqualTo(quoted.title());
+    assertThat(q.description()).isEmpty(); // quoted "", not NULL
+    assertThat(q.status()).isEqualTo(TaskStatus.DONE);
+    assertThat(q.dueAt()).isNull();
+    assertThat(tasks.findById(dated.id()).orElseThrow().dueAt().toInstant())
+        .isEqualTo(dated.dueAt().toInstant());
+  }
+
+  @Test
+  void a_failed_copy_leaves_nothing_behind() {
+    Task ok = Task.createNew("ok", null, null);
+    Task tooLong = Task.createNew("x".repeat(300), null, null);
+
+    assertThatThrownBy(() -> loader.load(List.of(ok, tooLong)))
+        .isInstanceOf(DataAccessException.class);
+    assertThat(tasks.findById(ok.id())).isEmpty();
+  }
+
+  @Autowired
+  IdempotencyStoreAdapter idempotency;
+
+  @Autowired
+  JdbcTemplate jdbc;
+
+  // INSERT ... ON CONFLICT: one winner, and the losers see its claim rather than an error
+  @Test
+  void racing_idempotency_claims_have_one_winner() throws Exception {
+    String key = "race-" + UUID.randomUUID();
+    int n = 32;
+    ExecutorService pool = Executors.newFixedThreadPool(n);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Optional<Stored>>> claims = new ArrayList<>();
+      for (int i = 0; i < n; i++) {
+        claims.add(pool.submit(() -> {
+          start.await();
+          return idempotency.claim(key, "fp");
+        }));
+      }
+      start.countDown();
+      int winners = 0;
+      for (Future<Optional<Stored>> f : claims) {
+        winners += f.get(30, TimeUnit.SECONDS).isEmpty() ? 1 : 0;
+      }
+      assertThat(winners).isEqualTo(1);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  // ON CONFLICT ... DO UPDATE ... WHERE created_at < cutoff: only an expired claim is taken over
+  @Test
+  void expired_idempotency_key_is_taken_over_and_live_one_is_not() {
+    String key = "exp-" + UUID.randomUUID();
+    assertThat(idempotency.claim(key, "old")).isEmpty();
+    assertThat(idempotency.claim(key, "new")).contains(new Stored("old", null));
+
+    jdbc.update("UPDATE idempotency_entry SET created_at = now() - interval '25 hours' "
+        + "WHERE id_key = ?", key);
+
+    assertThat(idempotency.claim(key, "new")).isEmpty();
+    assertThat(jdbc.queryForObject("SELECT fingerprint FROM idempotency_entry WHERE id_key = ?",
+        String.class, key)).isEqualTo("new");
+  }
+
+  // The multi-row INSERT ... ON CONFLICT ... RETURNING claim: free and expired keys are claimed,
+  // a live one reports what it holds
+  @Test
+  void batch_claims_take_free_and_expired_keys_in_one_statement() {
+    String p = "bulk-" + UUID.randomUUID() + "-";
+    idempotency.claim(p + "live", "live-fp");
+    idempotency.claim(p + "old", "old-fp");
+    jdbc.update("UPDATE idempotency_entry SET created_at = now() - interval '25 hours' "
+        + "WHERE id_key = ?", p + "old");
+
+    assertThat(idempotency.claimAll(Map.of(p + "new", "fp", p + "old", "fp", p + "live", "fp")))
+        .isEqualTo(Map.of(p + "live", new Stored("live-fp", null)));
+    assertThat(jdbc.queryForObject("SELECT fingerprint FROM idempotency_entry WHERE id_key = ?",
+        String.class, p + "old")).isEqualTo("fp");
+  }
+
+  @Autowired
+  TaskSearchPort search;
+
+  // The real websearch_to_tsquery ... OR title ILIKE statement against the V10 columns/indexes
+  @Test
+  void search_matches_words_title_substrings_and_short_prefixes() {
+    assertThat(search).isInstanceOf(PostgresTaskSearch.class);
+    String tag = "Q" + UUID.randomUUID().toString().substring(0, 8);
+    Task invoice = tasks.insert(Task.createNew(tag + " INV-2024-117", "Chase the invoices",
+        null));
+    Task renew = tasks.insert(Task.createNew(tag + " renew licence", "before expiry", null));
+
+    assertThat(search.search(tag + " invoice", TaskFilter.NONE, 1, 10))
+        .extracting(Task::id).containsExactly(invoice.id());
+    assertThat(search.search(tag + " -invoice", TaskFilter.NONE, 1, 10))
+        .extracting(Task::id).containsExactly(renew.id());
+    assertThat(search.search("INV-20", TaskFilter.NONE, 1, 50))
+        .extracting(Task::id).contains(invoice.id());
+    assertThat(search.search(tag.substring(0, 2), TaskFilter.NONE, 1, 1000))
+        .extracting(Task::id).contains(invoice.id(), renew.id());
+  }
+
+  // Index-only plans for both title patterns, including the short-query prefix
+  @Test
+  void title_patterns_are_served_by_the_trigram_index() {
+    for (String pattern : List.of("%INV-20%", "ab%")) {
+      String plan = jdbc.execute((ConnectionCallback<String>) c -> {
+        try (Statement st = c.createStatement()) {
+          st.execute("SET enable_seqscan = off");
+          StringBuilder out = new StringBuilder();
+          try (ResultSet rs = st.executeQuery(
+              "EXPLAIN SELECT id_key FROM tasks WHERE title ILIKE '" + pattern + "'")) {
+            while (rs.next()) {
+              out.append(rs.getString(1)).append('\n');
+            }
+          } finally {
+            st.execute("RESET enable_seqscan");
+          }
+          return out.toString();
+        }
+      });
+      assertThat(plan).contains("idx_tasks_title_trgm");
+    }
   }
 }
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.tasks.integration;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.servlet.http.Cookie;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.tasks.domain.TaskId;
+
+// Two H2 databases stand in for a primary and a (never-catching-up) replica
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1;DEFAULT_NULL_ORDERING=HIGH",
+    "replicas.urls=" + ReadReplicaRoutingTest.REPLICA})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+  static final String REPLICA =
+      "jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1;DEFAULT_NULL_ORDERING=HIGH";
+
+  @Autowired
+  MockMvc mvc;
+
+  @BeforeAll
+  static void replicaHasItsOwnRow() throws Exception {
+    Flyway.configure().dataSource(REPLICA, "sa", "")
+        .locations("classpath:db/migration", "classpath:db/vendor/h2").load().migrate();
+    try (Connection c = DriverManager.getConnection(REPLICA, "sa", "")) {
+      c.createStatement().execute("INSERT INTO tasks (id_key, title, status) VALUES ('"
+          + TaskId.newId().value() + "', 'only-on-replica', 'OPEN')");
+    }
+  }
+
+  @Test
+  void reads_go_to_the_replica_until_the_client_writes() throws Exception {
+    mvc.perform(get("/tasks")).andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].title").value("only-on-replica"));
+
+    Cookie rw = mvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"title\":\"written\"}")).andExpect(status().isCreated())
+        .andExpect(cookie().exists("tasks_rw")).andReturn().getResponse().getCookie("tasks_rw");
+
+    // the writer reads its own write from the primary...
+    mvc.perform(get("/tasks").cookie(rw)).andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].title", hasItem("written")));
+    // ...everyone else keeps reading the replica
+    mvc.perform(get("/tasks")).andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].title").value("only-on-replica"));
+  }
+
+  // What the UI does after every create or status change: redirect, then GET the task
+  @Test
+  void the_read_behind_a_post_redirect_get_sees_the_new_task() throws Exception {
+    var created = mvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON)
+        .content("{\"title\":\"redirected\"}")).andExpect(status().isCreated())
+        .andReturn().getResponse();
+    String location = created.getHeader("Location");
+    Cookie rw = created.getCookie("tasks_rw");
+
+    mvc.perform(get(location).cookie(rw)).andExpect(status().isOk())
+        .andExpect(jsonPath("$.title").value("redirected"));
+    // without the cookie the (lagging) replica does not have it yet
+    mvc.perform(get(location)).andExpect(status().isNotFound());
+  }
+}
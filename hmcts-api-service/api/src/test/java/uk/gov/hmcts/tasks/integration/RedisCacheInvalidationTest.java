@@ -0,0 +1,70 @@
+package uk.gov.hmcts.tasks.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.tasks.application.ports.TaskRepositoryPort;
+import uk.gov.hmcts.tasks.domain.Task;
+import uk.gov.hmcts.tasks.domain.TaskStatus;
+import uk.gov.hmcts.tasks.infrastructure.cache.CachingTaskRepository;
+import uk.gov.hmcts.tasks.infrastructure.cache.RedisTaskInvalidationBus;
+import uk.gov.hmcts.tasks.infrastructure.cache.TaskCache;
+
+// Two "instances" (cache + bus each) sharing one database mock and one Redis
+@Testcontainers
+@Tag("integration")
+@EnabledIfEnvironmentVariable(named = "RUN_TESTCONTAINERS", matches = "true")
+class RedisCacheInvalidationTest {
+
+  @Container
+  static GenericContainer<?> redis = new GenericContainer<>("redis:7").withExposedPorts(6379);
+
+  @Test
+  void writeOnOneInstanceEvictsTheOther() throws Exception {
+    String url = "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379);
+    Task v0 = Task.createNew("Title", null, null);
+    Task v1 = new Task(v0.id(), "Title", null, TaskStatus.IN_PROGRESS, null, 1);
+    TaskRepositoryPort db = mock(TaskRepositoryPort.class);
+    when(db.findById(v0.id())).thenReturn(Optional.of(v0));
+    when(db.updateStatus(any(), any(), any())).thenReturn(1);
+    when(db.findVersions(any())).thenReturn(Map.of(v0.id(), 1L));
+
+    TaskCache cacheA = cache();
+    TaskCache cacheB = cache();
+    try (RedisTaskInvalidationBus busA = new RedisTaskInvalidationBus(url, cacheA);
+        RedisTaskInvalidationBus busB = new RedisTaskInvalidationBus(url, cacheB)) {
+      Thread.sleep(500); // both subscriptions up
+      CachingTaskRepository a = new CachingTaskRepository(db, cacheA, busA);
+      CachingTaskRepository b = new CachingTaskRepository(db, cacheB, busB);
+      assertThat(b.findById(v0.id())).contains(v0);
+
+      when(db.findById(v0.id())).thenReturn(Optional.of(v1));
+      a.updateStatus(v0.id(), Task.predecessorsOf(TaskStatus.IN_PROGRESS),
+          TaskStatus.IN_PROGRESS);
+
+      long deadline = System.currentTimeMillis() + 5000;
+      while (b.findById(v0.id()).orElseThrow().version() != 1
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(50);
+      }
+      assertThat(b.findById(v0.id())).get().extracting(Task::status)
+          .isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+  }
+
+  private static TaskCache cache() {
+    return new TaskCache(100, Duration.ofMinutes(10), Clock.systemUTC(),
+        new SimpleMeterRegistry());
+  }
+}
@@ -2,6 +2,7 @@ import * as path from 'path';
 
 import { HTTPError } from './HttpError';
 import { Nunjucks } from './modules/nunjucks';
+import { readYourWrites } from './services/readYourWrites';
 
 import * as bodyParser from 'body-parser';
 import cookieParser from 'cookie-parser';
@@ -28,6 +29,7 @@ app.use(favicon(path.join(__dirname, 'public', 'assets', 'images', 'favicon.ico'
 app.use(bodyParser.json());
 app.use(bodyParser.urlencoded({ extended: false }));
 app.use(cookieParser());
+app.use(readYourWrites);
 app.use(express.static(path.join(__dirname, 'public')));
 app.use((req, res, next) => {
   res.setHeader('Cache-Control', 'no-cache, max-age=0, must-revalidate, no-store');
@@ -0,0 +1,57 @@
+import { AsyncLocalStorage } from 'async_hooks';
+import type { AxiosInstance } from 'axios';
+import type { NextFunction, Request, Response } from 'express';
+
+/**
+ * Read-your-writes against an API with read replicas. After a write the API sets a short-lived
+ * `tasks_rw` cookie, and reads that carry it are served by the primary. The axios client is shared
+ * by every browser session, so it cannot keep that cookie itself: it is relayed instead, copied
+ * onto the browser's response and sent back with that browser's later API calls (e.g. the GET
+ * behind the redirect that follows a create).
+ */
+export const RW_COOKIE = 'tasks_rw';
+
+type Session = { req: Request; res: Response; rw?: string };
+const sessions = new AsyncLocalStorage<Session>();
+
+// Express middleware: makes the current browser request visible to the API client
+export function readYourWrites(req: Request, res: Response, next: NextFunction) {
+  sessions.run({ req, res, rw: req.cookies?.[RW_COOKIE] }, next);
+}
+
+function relay(setCookie: unknown) {
+  const s = sessions.getStore();
+  const all = Array.isArray(setCookie) ? setCookie : setCookie ? [String(setCookie)] : [];
+  const c = all.find(v => v.startsWith(RW_COOKIE + '='));
+  if (!s || !c) return;
+  const [pair, ...attrs] = c.split(';').map(p => p.trim());
+  const value = pair.slice(RW_COOKIE.length + 1);
+  const maxAge = attrs.find(a => /^max-age=/i.test(a));
+  s.rw = value; // later calls in this same request read their write too
+  if (!s.res.headersSent) {
+    s.res.cookie(RW_COOKIE, value, {
+      httpOnly: true,
+      sameSite: 'lax',
+      path: '/',
+      maxAge: maxAge ? Number(maxAge.split('=')[1]) * 1000 : undefined
+    });
+  }
+}
+
+export function attachReadYourWrites(http: AxiosInstance) {
+  http.interceptors.request.use(config => {
+    const rw = sessions.getStore()?.rw;
+    if (rw) config.headers.Cookie = `${RW_COOKIE}=${rw}`;
+    return config;
+  });
+  http.interceptors.response.use(
+    resp => {
+      relay(resp.headers?.['set-cookie']);
+      return resp;
+    },
+    err => {
+      relay(err?.response?.headers?.['set-cookie']);
+      return Promise.reject(err);
+    }
+  );
+}
@@ -1,5 +1,7 @@
 import axios from 'axios';
 
+import { attachReadYourWrites } from './readYourWrites';
+
 export type TaskStatus = 'OPEN' | 'IN_PROGRESS' | 'DONE';
 export type SortKey = 'dueDate' | 'status';
 
@@ -16,6 +18,7 @@ const http = axios.create({
   baseURL: BASE_URL,
   headers: { 'Content-Type': 'application/json' }
 });
+attachReadYourWrites(http);
 
 function cleanParams(params: Record<string, any>) {
   const out: Record<string, any> = {};
@@ -10,6 +10,7 @@ describe('services/tasksApi: listTasks params & branches', () => {
         put: jest.Mock;
         patch: jest.Mock;
         delete: jest.Mock;
+        interceptors: unknown;
     };
 
     async function loadFresh() {
@@ -21,6 +22,7 @@ describe('services/tasksApi: listTasks params & branches', () => {
             put: jest.fn(),
             patch: jest.fn(),
             delete: jest.fn(),
+            interceptors: { request: { use: jest.fn() }, response: { use: jest.fn() } },
         };
 
         jest.doMock('axios', () => ({
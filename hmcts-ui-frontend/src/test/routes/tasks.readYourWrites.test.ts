@@ -0,0 +1,54 @@
+import nock from 'nock';
+import request from 'supertest';
+
+import { app } from '../../main/app';
+
+// Real tasksApi + axios; the API is faked at the HTTP level so the cookie relay actually runs
+const API = process.env.TASKS_API_URL || 'http://localhost:8080';
+const RW = 'tasks_rw=1700000005000';
+
+const logSpy = jest.spyOn(console, 'log').mockImplementation(() => { });
+const errSpy = jest.spyOn(console, 'error').mockImplementation(() => { });
+afterAll(() => { logSpy.mockRestore(); errSpy.mockRestore(); });
+
+describe('read-your-writes across write -> redirect -> read', () => {
+  afterEach(() => nock.cleanAll());
+
+  it('sends the API write cookie back with the GET behind the redirect', async () => {
+    nock(API).post('/tasks').reply(201, { id: '9', title: 'Fresh task', status: 'OPEN' },
+      { 'Set-Cookie': `${RW}; Max-Age=5; Path=/; HttpOnly` });
+    // Only a read pinned to the primary finds the new task; a lagging replica would 404
+    nock(API).get('/tasks/9').matchHeader('cookie', RW)
+      .reply(200, { id: '9', title: 'Fresh task', status: 'OPEN' });
+
+    const browser = request.agent(app);
+    const created = await browser.post('/tasks').type('form').send({ title: 'Fresh task' });
+    expect(created.status).toBe(302);
+    expect(created.headers.location).toBe('/tasks/9');
+    expect(String(created.headers['set-cookie'])).toContain(RW);
+
+    const read = await browser.get('/tasks/9');
+    expect(read.status).toBe(200);
+    expect(read.text).toContain('Fresh task');
+    expect(nock.isDone()).toBe(true);
+  });
+
+  it('relays the cookie after a status change too', async () => {
+    nock(API).put('/tasks/9/status').reply(200, { id: '9', title: 'T', status: 'DONE' },
+      { 'Set-Cookie': `${RW}; Max-Age=5; Path=/` });
+
+    const res = await request(app).post('/tasks/9/complete').type('form').send({});
+    expect(res.status).toBe(302);
+    expect(String(res.headers['set-cookie'])).toContain(RW);
+  });
+
+  it('does not pin a browser that has not written', async () => {
+    nock(API, { badheaders: ['cookie'] }).get('/tasks/9')
+      .reply(200, { id: '9', title: 'Someone else', status: 'OPEN' });
+
+    const res = await request(app).get('/tasks/9');
+    expect(res.status).toBe(200);
+    expect(res.headers['set-cookie']).toBeUndefined();
+    expect(nock.isDone()).toBe(true);
+  });
+});
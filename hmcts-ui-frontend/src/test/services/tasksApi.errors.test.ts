@@ -10,6 +10,7 @@ describe('tasksApi: env + error mapping', () => {
         put: jest.Mock;
         patch: jest.Mock;
         delete: jest.Mock;
+        interceptors: unknown;
     };
 
     async function loadFresh() {
@@ -21,6 +22,7 @@ describe('tasksApi: env + error mapping', () => {
             put: jest.fn(),
             patch: jest.fn(),
             delete: jest.fn(),
+            interceptors: { request: { use: jest.fn() }, response: { use: jest.fn() } },
         };
 
         // Mock the entire axios module (default export + named create)
@@ -3,11 +3,12 @@
  * so our module-level `http` is set up correctly at import time.
  */
 type AxiosInstanceLike = {
-  get: jest.Mock, post: jest.Mock, put: jest.Mock, delete: jest.Mock
+  get: jest.Mock, post: jest.Mock, put: jest.Mock, delete: jest.Mock, interceptors: unknown
 };
 
 const axiosInstance: AxiosInstanceLike = {
   get: jest.fn(), post: jest.fn(), put: jest.fn(), delete: jest.fn(),
+  interceptors: { request: { use: jest.fn() }, response: { use: jest.fn() } },
 };
 
 jest.mock('axios', () => ({